@@ -0,0 +1,60 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseSerializer;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiFieldError;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing an {@link ApiErrorResponse} with the {@link ApiErrorResponseSerializer},
+ * for a response without field errors, with 100 field errors and with 10000 field errors.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ApiErrorResponseSerializerBenchmark {
+
+    @Param({"0", "100", "10000"})
+    private int fieldErrorCount;
+
+    private ObjectMapper objectMapper;
+    private ApiErrorResponse response;
+
+    @Setup
+    public void setUp() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addSerializer(ApiErrorResponse.class, new ApiErrorResponseSerializer(properties)));
+
+        response = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed for object='order'");
+        response.addErrorProperty("orderId", "order-123");
+        for (int i = 0; i < fieldErrorCount; i++) {
+            response.addFieldError(new ApiFieldError("REQUIRED_NOT_BLANK", "lines[" + i + "].product", "must not be blank", "", "lines[" + i + "].product"));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
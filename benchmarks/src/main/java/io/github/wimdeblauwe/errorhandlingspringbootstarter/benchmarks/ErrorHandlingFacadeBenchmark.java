@@ -0,0 +1,132 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.benchmarks;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.DefaultFallbackApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.LoggingService;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.BindApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ConstraintViolationApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.HttpMessageNotReadableApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.MissingRequestValueExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ServerErrorExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ServerWebInputExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.TypeMismatchApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.server.ServerErrorException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErrorHandlingFacade#handle(Throwable)} for an exception of each built-in handler
+ * (that does not need an optional dependency), and for an exception that is handled by the fallback handler.
+ * The exceptions are not logged, so only the handling itself is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ErrorHandlingFacadeBenchmark {
+
+    @Param({"BIND", "CONSTRAINT_VIOLATION", "TYPE_MISMATCH", "MESSAGE_NOT_READABLE", "MISSING_REQUEST_VALUE", "SERVER_WEB_INPUT", "SERVER_ERROR", "FALLBACK"})
+    private String exceptionType;
+
+    private ErrorHandlingFacade facade;
+    private Throwable exception;
+
+    @Setup
+    public void setUp() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        HttpStatusMapper httpStatusMapper = new HttpStatusMapper(properties, List.of());
+        ErrorCodeMapper errorCodeMapper = new ErrorCodeMapper(properties);
+        ErrorMessageMapper errorMessageMapper = new ErrorMessageMapper(properties);
+
+        List<ApiExceptionHandler> handlers = List.of(
+                new BindApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new ConstraintViolationApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new TypeMismatchApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new HttpMessageNotReadableApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new MissingRequestValueExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new ServerWebInputExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new ServerErrorExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper));
+        facade = new ErrorHandlingFacade(handlers,
+                                         new DefaultFallbackApiExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                                         new LoggingService(properties),
+                                         List.of());
+        exception = createException(exceptionType);
+    }
+
+    @Benchmark
+    public ApiErrorResponse handle() {
+        return facade.handle(exception);
+    }
+
+    private static Throwable createException(String exceptionType) {
+        return switch (exceptionType) {
+            case "BIND" -> {
+                BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CreateUserRequest(), "createUserRequest");
+                bindingResult.rejectValue("name", "NotBlank", "must not be blank");
+                bindingResult.rejectValue("email", "Email", "must be a well-formed email address");
+                bindingResult.reject("PasswordsMatch", "passwords do not match");
+                yield new BindException(bindingResult);
+            }
+            case "CONSTRAINT_VIOLATION" -> {
+                try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+                    yield new ConstraintViolationException(validatorFactory.getValidator().validate(new CreateUserRequest()));
+                }
+            }
+            case "TYPE_MISMATCH" -> new TypeMismatchException("abc", Integer.class);
+            case "MESSAGE_NOT_READABLE" -> new HttpMessageNotReadableException("JSON parse error", new MockHttpInputMessage(new byte[0]));
+            case "MISSING_REQUEST_VALUE" -> new MissingServletRequestParameterException("page", "int");
+            case "SERVER_WEB_INPUT" -> new ServerWebInputException("Invalid page parameter");
+            case "SERVER_ERROR" -> new ServerErrorException("Unexpected server error", (Throwable) null);
+            case "FALLBACK" -> new IllegalStateException("Order could not be processed");
+            default -> throw new IllegalArgumentException("Unknown exception type " + exceptionType);
+        };
+    }
+
+    public static class CreateUserRequest {
+        @NotBlank
+        private String name = "";
+        @Email
+        private String email = "invalid";
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.benchmarks;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.LoggingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decision of the {@link LoggingService} whether an exception should be logged, without the logging itself:
+ * <ul>
+ *     <li><code>DEFAULT</code>: no log levels or limits are configured.</li>
+ *     <li><code>LOG_LEVELS</code>: log levels are configured for a fixed status and a status range.</li>
+ *     <li><code>LOG_LIMITS</code>: a rate limit and a sampling ratio are configured.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LoggingServiceBenchmark {
+    private static final Throwable EXCEPTION = new IllegalStateException("Order not found");
+
+    @Param({"DEFAULT", "LOG_LEVELS", "LOG_LIMITS"})
+    private String configuration;
+
+    private DecisionLoggingService loggingService;
+    private ApiErrorResponse clientErrorResponse;
+    private ApiErrorResponse serverErrorResponse;
+
+    @Setup
+    public void setUp() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        switch (configuration) {
+            case "LOG_LEVELS" -> {
+                properties.getLogLevels().put("404", LogLevel.DEBUG);
+                properties.getLogLevels().put("4xx", LogLevel.INFO);
+                properties.getLogLevels().put("5xx", LogLevel.ERROR);
+            }
+            case "LOG_LIMITS" -> {
+                ErrorHandlingProperties.LogLimit statusLimit = new ErrorHandlingProperties.LogLimit();
+                statusLimit.setMaxPerSecond(1_000_000);
+                properties.getLogLimits().getHttpStatuses().put("5xx", statusLimit);
+                ErrorHandlingProperties.LogLimit codeLimit = new ErrorHandlingProperties.LogLimit();
+                codeLimit.setSampleRatio(0.5);
+                properties.getLogLimits().getCodes().put("NOT_FOUND", codeLimit);
+            }
+            default -> {
+            }
+        }
+        loggingService = new DecisionLoggingService(properties);
+        clientErrorResponse = new ApiErrorResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", "Order not found");
+        serverErrorResponse = new ApiErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_SERVER_ERROR", "Unexpected error");
+    }
+
+    @Benchmark
+    public boolean clientError() {
+        return loggingService.isLogged(clientErrorResponse);
+    }
+
+    @Benchmark
+    public boolean serverError() {
+        return loggingService.isLogged(serverErrorResponse);
+    }
+
+    private static class DecisionLoggingService extends LoggingService {
+        DecisionLoggingService(ErrorHandlingProperties properties) {
+            super(properties);
+        }
+
+        boolean isLogged(ApiErrorResponse errorResponse) {
+            return shouldLog(errorResponse, EXCEPTION);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.benchmarks;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link HttpStatusMapper}, {@link ErrorCodeMapper} and {@link ErrorMessageMapper} for an exception
+ * whose status, code and message are configured for a superclass, with and without
+ * <code>error.handling.search-super-class-hierarchy</code>.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"false", "true"})
+    private boolean searchSuperClassHierarchy;
+
+    private HttpStatusMapper httpStatusMapper;
+    private ErrorCodeMapper errorCodeMapper;
+    private ErrorMessageMapper errorMessageMapper;
+    private OrderNotFoundException exception;
+
+    @Setup
+    public void setUp() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setSearchSuperClassHierarchy(searchSuperClassHierarchy);
+        properties.getHttpStatuses().put(NotFoundException.class.getName(), HttpStatus.NOT_FOUND);
+        properties.getCodes().put(NotFoundException.class.getName(), "NOT_FOUND");
+        properties.getMessages().put(NotFoundException.class.getName(), "The resource was not found");
+
+        httpStatusMapper = new HttpStatusMapper(properties, List.of());
+        errorCodeMapper = new ErrorCodeMapper(properties);
+        errorMessageMapper = new ErrorMessageMapper(properties);
+        exception = new OrderNotFoundException("Order order-123 not found");
+    }
+
+    @Benchmark
+    public HttpStatusCode httpStatus() {
+        return httpStatusMapper.getHttpStatus(exception);
+    }
+
+    @Benchmark
+    public String errorCode() {
+        return errorCodeMapper.getErrorCode(exception);
+    }
+
+    @Benchmark
+    public String errorMessage() {
+        return errorMessageMapper.getErrorMessage(exception);
+    }
+
+    public static class NotFoundException extends RuntimeException {
+        public NotFoundException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    public static class OrderNotFoundException extends NotFoundException {
+        public OrderNotFoundException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.DefaultFallbackApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.LoggingService;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive.GlobalErrorWebExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.web.ErrorProperties;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.web.reactive.error.DefaultErrorAttributes;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering the error response of a WebFlux application via the router function and message writers
+ * with encoding it directly into a <code>DataBuffer</code>, see <code>error.handling.reactive-direct-write</code>.
+ * Run with <code>-prof gc</code> to compare the allocations as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ReactiveErrorResponseWriteBenchmark {
+
+    @Param({"false", "true"})
+    private boolean directWrite;
+
+    @Param({"false", "true"})
+    private boolean responseCache;
+
+    private GlobalErrorWebExceptionHandler handler;
+    private ServerCodecConfigurer codecConfigurer;
+    private WebSessionManager sessionManager;
+    private LocaleContextResolver localeContextResolver;
+    private IllegalStateException exception;
+
+    @Setup
+    public void setUp() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        properties.setReactiveDirectWrite(directWrite);
+        properties.getResponseCache().setEnabled(responseCache);
+
+        ErrorHandlingFacade facade = new ErrorHandlingFacade(List.of(),
+                                                             new DefaultFallbackApiExceptionHandler(new HttpStatusMapper(properties, List.of()),
+                                                                                                    new ErrorCodeMapper(properties),
+                                                                                                    new ErrorMessageMapper(properties)),
+                                                             new LoggingService(properties),
+                                                             List.of());
+        ObjectMapper objectMapper = new ObjectMapper();
+        codecConfigurer = ServerCodecConfigurer.create();
+        codecConfigurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.refresh();
+        handler = new GlobalErrorWebExceptionHandler(new DefaultErrorAttributes(),
+                                                     new WebProperties.Resources(),
+                                                     new ErrorProperties(),
+                                                     applicationContext,
+                                                     facade,
+                                                     properties,
+                                                     objectMapper,
+                                                     new ApiErrorResponseCache(properties));
+        handler.setMessageWriters(codecConfigurer.getWriters());
+        handler.setMessageReaders(codecConfigurer.getReaders());
+        handler.setViewResolvers(List.of());
+        handler.afterPropertiesSet();
+
+        sessionManager = new DefaultWebSessionManager();
+        localeContextResolver = new AcceptHeaderLocaleContextResolver();
+        exception = new IllegalStateException("Order could not be processed");
+    }
+
+    @Benchmark
+    public ServerWebExchange handle() {
+        // Share the codecs between the exchanges, MockServerWebExchange creates new ones for each exchange
+        ServerWebExchange exchange = new DefaultServerWebExchange(MockServerHttpRequest.get("/orders/123").build(),
+                                                                  new MockServerHttpResponse(),
+                                                                  sessionManager,
+                                                                  codecConfigurer,
+                                                                  localeContextResolver);
+        handler.handle(exchange, exception).block();
+        return exchange;
+    }
+}
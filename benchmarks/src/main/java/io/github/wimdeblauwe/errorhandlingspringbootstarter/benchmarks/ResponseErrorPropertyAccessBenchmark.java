@@ -0,0 +1,118 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.benchmarks;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.DefaultFallbackApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ResponseErrorProperty;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading the {@link ResponseErrorProperty} values of an exception in the fallback handler.
+ * <p>
+ * {@link #handleSpunAccessors()} uses an exception with public getters, which the handler reads through functions
+ * spun by the {@code LambdaMetafactory}. {@link #handleReflectiveAccessors()} uses the same exception with
+ * package-private getters, which the handler reads through reflection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ResponseErrorPropertyAccessBenchmark {
+
+    private DefaultFallbackApiExceptionHandler handler;
+    private OrderNotFoundException publicGetterException;
+    private ReflectiveOrderNotFoundException packagePrivateGetterException;
+
+    @Setup
+    public void setUp() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        handler = new DefaultFallbackApiExceptionHandler(new HttpStatusMapper(properties, List.of()),
+                                                         new ErrorCodeMapper(properties),
+                                                         new ErrorMessageMapper(properties));
+        publicGetterException = new OrderNotFoundException("order-123", "customer-456", 3);
+        packagePrivateGetterException = new ReflectiveOrderNotFoundException("order-123", "customer-456", 3);
+    }
+
+    @Benchmark
+    public ApiErrorResponse handleSpunAccessors() {
+        return handler.handle(publicGetterException);
+    }
+
+    @Benchmark
+    public ApiErrorResponse handleReflectiveAccessors() {
+        return handler.handle(packagePrivateGetterException);
+    }
+
+    public static class OrderNotFoundException extends RuntimeException {
+        private final String orderId;
+        private final String customerId;
+        private final int attempt;
+
+        public OrderNotFoundException(String orderId, String customerId, int attempt) {
+            super("Order " + orderId + " not found", null, false, false);
+            this.orderId = orderId;
+            this.customerId = customerId;
+            this.attempt = attempt;
+        }
+
+        @ResponseErrorProperty
+        public String getOrderId() {
+            return orderId;
+        }
+
+        @ResponseErrorProperty
+        public String getCustomerId() {
+            return customerId;
+        }
+
+        @ResponseErrorProperty
+        public int getAttempt() {
+            return attempt;
+        }
+    }
+
+    public static class ReflectiveOrderNotFoundException extends RuntimeException {
+        private final String orderId;
+        private final String customerId;
+        private final int attempt;
+
+        public ReflectiveOrderNotFoundException(String orderId, String customerId, int attempt) {
+            super("Order " + orderId + " not found", null, false, false);
+            this.orderId = orderId;
+            this.customerId = customerId;
+            this.attempt = attempt;
+        }
+
+        @ResponseErrorProperty
+        String getOrderId() {
+            return orderId;
+        }
+
+        @ResponseErrorProperty
+        String getCustomerId() {
+            return customerId;
+        }
+
+        @ResponseErrorProperty
+        int getAttempt() {
+            return attempt;
+        }
+    }
+}
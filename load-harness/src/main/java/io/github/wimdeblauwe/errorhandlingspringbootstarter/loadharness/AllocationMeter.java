@@ -0,0 +1,53 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the bytes that were allocated by the threads of the server, which are all threads except the
+ * threads of the {@link LoadGenerator} and of its HTTP client.
+ * <p>
+ * Threads that terminate between two snapshots are not counted, which is fine for the long-living
+ * worker threads of Tomcat and Netty.
+ */
+public class AllocationMeter {
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    public AllocationMeter() {
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Measuring the allocated memory of threads is not supported by this JVM");
+        }
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public Map<Long, Long> snapshot() {
+        long[] threadIds = threadMXBean.getAllThreadIds();
+        ThreadInfo[] threadInfos = threadMXBean.getThreadInfo(threadIds);
+        long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            if (threadInfos[i] != null && allocatedBytes[i] >= 0 && !isLoadGeneratorThread(threadInfos[i].getThreadName())) {
+                result.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the bytes that the server threads allocated since the given snapshot.
+     */
+    public long allocatedBytesSince(Map<Long, Long> snapshot) {
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : snapshot().entrySet()) {
+            total += entry.getValue() - snapshot.getOrDefault(entry.getKey(), 0L);
+        }
+        return total;
+    }
+
+    private static boolean isLoadGeneratorThread(String threadName) {
+        return threadName.startsWith(LoadGenerator.THREAD_NAME_PREFIX) || threadName.startsWith("HttpClient-");
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * The failures of the {@link Scenario}s, shared by the servlet and the reactive controller.
+ */
+public final class HarnessController {
+
+    private HarnessController() {
+    }
+
+    public static ResponseStatusException orderNotFound(String orderId) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Order " + orderId + " not found");
+    }
+
+    public static IllegalStateException processingFailed(String orderId) {
+        return new IllegalStateException("Order " + orderId + " could not be processed");
+    }
+
+    public record CreateOrderRequest(@NotBlank String product, @Min(1) int quantity) {
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The command line options of the {@link LoadHarness}, see the README for their meaning.
+ */
+public record HarnessOptions(List<Stack> stacks,
+                             List<Handling> handlings,
+                             List<Scenario> scenarios,
+                             int concurrency,
+                             Duration warmup,
+                             Duration duration,
+                             boolean logging) {
+
+    private static final Set<String> OPTIONS = Set.of("stacks", "handlings", "scenarios", "concurrency", "warmup", "duration", "logging");
+
+    public static HarnessOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg.substring(2) : arg.substring(2, separator);
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", supported options are " + OPTIONS);
+            }
+            values.put(name, separator < 0 ? "true" : arg.substring(separator + 1));
+        }
+        return new HarnessOptions(parseList(values.getOrDefault("stacks", "servlet,reactive"), Stack.class),
+                                  parseList(values.getOrDefault("handlings", "starter,problem-detail"), Handling.class),
+                                  parseList(values.getOrDefault("scenarios", "validation,not-found,access-denied,internal-error"), Scenario.class),
+                                  Integer.parseInt(values.getOrDefault("concurrency", "16")),
+                                  DurationStyle.detectAndParse(values.getOrDefault("warmup", "5s")),
+                                  DurationStyle.detectAndParse(values.getOrDefault("duration", "10s")),
+                                  Boolean.parseBoolean(values.getOrDefault("logging", "false")));
+    }
+
+    private static <E extends Enum<E>> List<E> parseList(String value, Class<E> type) {
+        return Arrays.stream(value.split(","))
+                     .map(String::trim)
+                     .map(name -> Enum.valueOf(type, name.toUpperCase().replace('-', '_')))
+                     .toList();
+    }
+
+    public enum Stack {
+        SERVLET,
+        REACTIVE
+    }
+
+    public enum Handling {
+        /**
+         * The error handling starter handles the exceptions.
+         */
+        STARTER,
+        /**
+         * The error handling starter is disabled and Spring's <code>ProblemDetail</code> handling is enabled.
+         */
+        PROBLEM_DETAIL
+    }
+}
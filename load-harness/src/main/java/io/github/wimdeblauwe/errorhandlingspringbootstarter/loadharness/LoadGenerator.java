@@ -0,0 +1,109 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the request of a {@link Scenario} from a number of concurrent clients, each sending the next request
+ * as soon as the response of the previous one is received (a closed loop).
+ */
+public class LoadGenerator implements AutoCloseable {
+    static final String THREAD_NAME_PREFIX = "load-generator-";
+
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final AllocationMeter allocationMeter = new AllocationMeter();
+
+    public LoadGenerator(int concurrency) {
+        this.concurrency = concurrency;
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency * 2, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                                    .version(HttpClient.Version.HTTP_1_1)
+                                    .connectTimeout(Duration.ofSeconds(5))
+                                    .executor(executor)
+                                    .build();
+    }
+
+    public LoadResult run(URI baseUri, Scenario scenario, Duration warmup, Duration duration) throws Exception {
+        HttpRequest request = scenario.createRequest(baseUri);
+        runClients(request, scenario, warmup);
+
+        Map<Long, Long> allocationSnapshot = allocationMeter.snapshot();
+        long startNanos = System.nanoTime();
+        List<ClientResult> results = runClients(request, scenario, duration);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        long allocatedBytes = allocationMeter.allocatedBytesSince(allocationSnapshot);
+
+        long requests = 0;
+        long unexpectedResponses = 0;
+        List<long[]> latencies = new ArrayList<>();
+        for (ClientResult result : results) {
+            requests += result.requests();
+            unexpectedResponses += result.unexpectedResponses();
+            latencies.add(result.latenciesNanos());
+        }
+        long[] allLatencies = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+        return new LoadResult(requests, unexpectedResponses, elapsed, LoadResult.sorted(allLatencies), allocatedBytes);
+    }
+
+    private List<ClientResult> runClients(HttpRequest request, Scenario scenario, Duration duration) throws Exception {
+        long endNanos = System.nanoTime() + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> runClient(request, scenario, endNanos)));
+        }
+        List<ClientResult> results = new ArrayList<>();
+        for (Future<ClientResult> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    private ClientResult runClient(HttpRequest request, Scenario scenario, long endNanos) throws InterruptedException {
+        long[] latencies = new long[1024];
+        int requests = 0;
+        long unexpectedResponses = 0;
+        while (System.nanoTime() < endNanos) {
+            long startNanos = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != scenario.getExpectedStatus()) {
+                    unexpectedResponses++;
+                }
+            } catch (IOException e) {
+                unexpectedResponses++;
+            }
+            if (requests == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[requests++] = System.nanoTime() - startNanos;
+        }
+        return new ClientResult(requests, unexpectedResponses, Arrays.copyOf(latencies, requests));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private record ClientResult(long requests, long unexpectedResponses, long[] latenciesNanos) {
+    }
+}
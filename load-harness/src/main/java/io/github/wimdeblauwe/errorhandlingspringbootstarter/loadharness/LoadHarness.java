@@ -0,0 +1,77 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.reactive.ReactiveHarnessApplication;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.servlet.ServletHarnessApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs every combination of {@link HarnessOptions.Stack}, {@link HarnessOptions.Handling} and {@link Scenario},
+ * and prints the results. See the README for the options.
+ */
+public class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options = HarnessOptions.parse(args);
+        List<String> rows = new ArrayList<>();
+        try (LoadGenerator loadGenerator = new LoadGenerator(options.concurrency())) {
+            for (HarnessOptions.Stack stack : options.stacks()) {
+                for (HarnessOptions.Handling handling : options.handlings()) {
+                    try (ConfigurableApplicationContext context = start(stack, handling, options.logging())) {
+                        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                        URI baseUri = URI.create("http://localhost:" + port);
+                        for (Scenario scenario : options.scenarios()) {
+                            System.out.printf("Running %s %s %s...%n", name(stack), name(handling), name(scenario));
+                            LoadResult result = loadGenerator.run(baseUri, scenario, options.warmup(), options.duration());
+                            rows.add(formatRow(stack, handling, scenario, result));
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("Concurrency: %d, warmup: %s, duration: %s%n", options.concurrency(), options.warmup(), options.duration());
+        System.out.printf("%-9s %-15s %-15s %10s %10s %10s %14s %11s%n",
+                          "Stack", "Handling", "Scenario", "RPS", "p50 (ms)", "p99 (ms)", "Alloc/req (B)", "Unexpected");
+        rows.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(HarnessOptions.Stack stack, HarnessOptions.Handling handling, boolean logging) {
+        SpringApplicationBuilder builder = switch (stack) {
+            case SERVLET -> new SpringApplicationBuilder(ServletHarnessApplication.class).web(WebApplicationType.SERVLET);
+            case REACTIVE -> new SpringApplicationBuilder(ReactiveHarnessApplication.class).web(WebApplicationType.REACTIVE);
+        };
+        List<String> properties = new ArrayList<>();
+        if (handling == HarnessOptions.Handling.PROBLEM_DETAIL) {
+            properties.add("error.handling.enabled=false");
+            properties.add("spring.mvc.problemdetails.enabled=true");
+            properties.add("spring.webflux.problemdetails.enabled=true");
+        }
+        if (!logging) {
+            properties.add("logging.level.root=OFF");
+        }
+        return builder.properties(properties.toArray(String[]::new)).run();
+    }
+
+    private static String formatRow(HarnessOptions.Stack stack, HarnessOptions.Handling handling, Scenario scenario, LoadResult result) {
+        return String.format(Locale.ROOT, "%-9s %-15s %-15s %10.0f %10.2f %10.2f %14.0f %11d",
+                             name(stack), name(handling), name(scenario),
+                             result.requestsPerSecond(),
+                             result.percentileMillis(50),
+                             result.percentileMillis(99),
+                             result.allocatedBytesPerRequest(),
+                             result.unexpectedResponses());
+    }
+
+    private static String name(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
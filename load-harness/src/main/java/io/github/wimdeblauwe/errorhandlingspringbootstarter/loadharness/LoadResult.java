@@ -0,0 +1,42 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * The outcome of running a {@link Scenario} with the {@link LoadGenerator}.
+ *
+ * @param requests            the number of requests that completed during the measurement.
+ * @param unexpectedResponses the number of requests that failed or did not get the expected status.
+ * @param duration            the duration of the measurement.
+ * @param latenciesNanos      the sorted latencies of the requests.
+ * @param allocatedBytes      the bytes allocated by the server threads during the measurement.
+ */
+public record LoadResult(long requests,
+                         long unexpectedResponses,
+                         Duration duration,
+                         long[] latenciesNanos,
+                         long allocatedBytes) {
+
+    public double requestsPerSecond() {
+        return requests / (duration.toNanos() / 1_000_000_000.0);
+    }
+
+    public double percentileMillis(double percentile) {
+        if (latenciesNanos.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * latenciesNanos.length) - 1;
+        return latenciesNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    public double allocatedBytesPerRequest() {
+        return requests == 0 ? Double.NaN : (double) allocatedBytes / requests;
+    }
+
+    static long[] sorted(long[] latenciesNanos) {
+        long[] result = latenciesNanos.clone();
+        Arrays.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The failing requests that the {@link LoadHarness} sends, see {@link HarnessController}.
+ */
+public enum Scenario {
+    VALIDATION(400) {
+        @Override
+        HttpRequest.Builder request(URI baseUri) {
+            return HttpRequest.newBuilder(baseUri.resolve("/orders"))
+                              .header("Content-Type", "application/json")
+                              .POST(HttpRequest.BodyPublishers.ofString("{\"product\":\"\",\"quantity\":0}"));
+        }
+    },
+    NOT_FOUND(404) {
+        @Override
+        HttpRequest.Builder request(URI baseUri) {
+            return HttpRequest.newBuilder(baseUri.resolve("/orders/order-123")).GET();
+        }
+    },
+    ACCESS_DENIED(403) {
+        @Override
+        HttpRequest.Builder request(URI baseUri) {
+            return HttpRequest.newBuilder(baseUri.resolve("/admin/orders")).GET();
+        }
+    },
+    INTERNAL_ERROR(500) {
+        @Override
+        HttpRequest.Builder request(URI baseUri) {
+            return HttpRequest.newBuilder(baseUri.resolve("/orders/order-123/process")).POST(HttpRequest.BodyPublishers.noBody());
+        }
+    };
+
+    static final String USERNAME = "user";
+    static final String PASSWORD = "password";
+    private static final String AUTHORIZATION = "Basic " + Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+
+    private final int expectedStatus;
+
+    Scenario(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    public int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public HttpRequest createRequest(URI baseUri) {
+        return request(baseUri).header("Authorization", AUTHORIZATION)
+                               .header("Accept", "application/json")
+                               .build();
+    }
+
+    abstract HttpRequest.Builder request(URI baseUri);
+}
@@ -0,0 +1,73 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.reactive;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.HarnessController;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.HarnessController.CreateOrderRequest;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@SpringBootApplication
+@EnableReactiveMethodSecurity
+public class ReactiveHarnessApplication {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                   .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                   .authorizeExchange(exchanges -> exchanges.anyExchange().authenticated())
+                   .httpBasic(Customizer.withDefaults())
+                   .build();
+    }
+
+    /**
+     * Not a <code>MapReactiveUserDetailsService</code>, as that would re-encode the <code>{noop}</code> password
+     * with BCrypt on each request (see <code>ReactiveUserDetailsPasswordService</code>).
+     */
+    @Bean
+    public ReactiveUserDetailsService userDetailsService() {
+        return username -> Mono.just(User.withUsername(username)
+                                         .password("{noop}password")
+                                         .roles("USER")
+                                         .build());
+    }
+
+    @RestController
+    public static class OrderController {
+        @PostMapping("/orders")
+        public Mono<String> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+            return Mono.just("order-123");
+        }
+
+        @GetMapping("/orders/{orderId}")
+        public Mono<String> getOrder(@PathVariable String orderId) {
+            return Mono.error(HarnessController.orderNotFound(orderId));
+        }
+
+        @PostMapping("/orders/{orderId}/process")
+        public Mono<String> processOrder(@PathVariable String orderId) {
+            return Mono.error(HarnessController.processingFailed(orderId));
+        }
+
+        @GetMapping("/admin/orders")
+        @PreAuthorize("hasRole('ADMIN')")
+        public Mono<List<String>> getAllOrders() {
+            return Mono.just(List.of("order-123"));
+        }
+    }
+}
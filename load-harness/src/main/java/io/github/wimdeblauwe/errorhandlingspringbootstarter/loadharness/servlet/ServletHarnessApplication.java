@@ -0,0 +1,73 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.servlet;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.HarnessController;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.loadharness.HarnessController.CreateOrderRequest;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@SpringBootApplication
+@EnableMethodSecurity
+public class ServletHarnessApplication {
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        return http.csrf(AbstractHttpConfigurer::disable)
+                   .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                   .authorizeHttpRequests(requests -> requests.anyRequest().authenticated())
+                   .httpBasic(Customizer.withDefaults())
+                   .build();
+    }
+
+    /**
+     * Not an <code>InMemoryUserDetailsManager</code>, as that would re-encode the <code>{noop}</code> password
+     * with BCrypt on each request (see <code>UserDetailsPasswordService</code>).
+     */
+    @Bean
+    public UserDetailsService userDetailsService() {
+        return username -> User.withUsername(username)
+                               .password("{noop}password")
+                               .roles("USER")
+                               .build();
+    }
+
+    @RestController
+    public static class OrderController {
+        @PostMapping("/orders")
+        public String createOrder(@Valid @RequestBody CreateOrderRequest request) {
+            return "order-123";
+        }
+
+        @GetMapping("/orders/{orderId}")
+        public String getOrder(@PathVariable String orderId) {
+            throw HarnessController.orderNotFound(orderId);
+        }
+
+        @PostMapping("/orders/{orderId}/process")
+        public String processOrder(@PathVariable String orderId) {
+            throw HarnessController.processingFailed(orderId);
+        }
+
+        @GetMapping("/admin/orders")
+        @PreAuthorize("hasRole('ADMIN')")
+        public List<String> getAllOrders() {
+            return List.of("order-123");
+        }
+    }
+}
@@ -7,6 +7,7 @@ import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.TypeMismatch
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -23,25 +24,43 @@ public abstract class AbstractErrorHandlingConfiguration {
     public ErrorHandlingFacade errorHandlingFacade(List<ApiExceptionHandler> handlers,
                                                    FallbackApiExceptionHandler fallbackHandler,
                                                    LoggingService loggingService,
-                                                   List<ApiErrorResponseCustomizer> responseCustomizers) {
+                                                   List<ApiErrorResponseCustomizer> responseCustomizers,
+                                                   ObjectProvider<ErrorHandlingListener> listeners) {
         handlers.sort(AnnotationAwareOrderComparator.INSTANCE);
         LOGGER.info("Error Handling Spring Boot Starter active with {} handlers", handlers.size());
         LOGGER.debug("Handlers: {}", handlers);
 
-        return new ErrorHandlingFacade(handlers, fallbackHandler, loggingService, responseCustomizers);
+        return new ErrorHandlingFacade(handlers, fallbackHandler, loggingService, responseCustomizers,
+                                       listeners.orderedStream().toList());
     }
 
     @Bean
     @ConditionalOnMissingBean
     public LoggingService loggingService(ErrorHandlingProperties properties) {
+        if (properties.getAsyncLogging().isEnabled()) {
+            return new AsyncLoggingService(properties);
+        }
         return new LoggingService(properties);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public ApiErrorResponseCache apiErrorResponseCache(ErrorHandlingProperties properties) {
+        return new ApiErrorResponseCache(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ErrorMetadataResolver errorMetadataResolver(ErrorHandlingProperties properties) {
+        return new ErrorMetadataResolver(properties);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public HttpStatusMapper httpStatusMapper(ErrorHandlingProperties properties,
-                                             List<HttpResponseStatusFromExceptionMapper> httpResponseStatusFromExceptionMapperList) {
-        return new HttpStatusMapper(properties, httpResponseStatusFromExceptionMapperList);
+                                             List<HttpResponseStatusFromExceptionMapper> httpResponseStatusFromExceptionMapperList,
+                                             ErrorMetadataResolver errorMetadataResolver) {
+        return new HttpStatusMapper(properties, httpResponseStatusFromExceptionMapperList, errorMetadataResolver);
     }
 
     @Bean
@@ -57,14 +76,17 @@ public abstract class AbstractErrorHandlingConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public ErrorCodeMapper errorCodeMapper(ErrorHandlingProperties properties) {
-        return new ErrorCodeMapper(properties);
+    public ErrorCodeMapper errorCodeMapper(ErrorHandlingProperties properties,
+                                           ErrorMetadataResolver errorMetadataResolver,
+                                           ObjectProvider<ErrorCodeStrategy> errorCodeStrategy) {
+        return new ErrorCodeMapper(properties, errorMetadataResolver, errorCodeStrategy.getIfAvailable());
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public ErrorMessageMapper errorMessageMapper(ErrorHandlingProperties properties) {
-        return new ErrorMessageMapper(properties);
+    public ErrorMessageMapper errorMessageMapper(ErrorHandlingProperties properties,
+                                                 ErrorMetadataResolver errorMetadataResolver) {
+        return new ErrorMessageMapper(properties, errorMetadataResolver);
     }
 
     @Bean
@@ -72,9 +94,7 @@ public abstract class AbstractErrorHandlingConfiguration {
     public FallbackApiExceptionHandler defaultHandler(HttpStatusMapper httpStatusMapper,
                                                       ErrorCodeMapper errorCodeMapper,
                                                       ErrorMessageMapper errorMessageMapper) {
-        return new DefaultFallbackApiExceptionHandler(httpStatusMapper,
-                                                      errorCodeMapper,
-                                                      errorMessageMapper);
+        return new DefaultFallbackApiExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper);
     }
 
     @Bean
@@ -8,28 +8,36 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * The error response that is returned to the client.
+ * <p>
+ * Most responses have no properties and no field, global or parameter errors, so those collections are only
+ * allocated when the first element is added. The getters always return an unmodifiable collection (a shared empty
+ * one until the first element is added), so use the <code>add</code> methods to add elements.
+ */
 @JsonInclude(JsonInclude.Include.NON_EMPTY)
 public class ApiErrorResponse {
     private final HttpStatusCode httpStatus;
     private final String code;
     private final String message;
-    private final Map<String, Object> properties;
-    private final List<ApiFieldError> fieldErrors;
-    private final List<ApiGlobalError> globalErrors;
-    private final List<ApiParameterError> parameterErrors;
+    private Map<String, Object> properties;
+    private Map<String, Object> propertiesView = Map.of();
+    private List<ApiFieldError> fieldErrors;
+    private List<ApiFieldError> fieldErrorsView = List.of();
+    private List<ApiGlobalError> globalErrors;
+    private List<ApiGlobalError> globalErrorsView = List.of();
+    private List<ApiParameterError> parameterErrors;
+    private List<ApiParameterError> parameterErrorsView = List.of();
 
     public ApiErrorResponse(HttpStatusCode httpStatus, String code, String message) {
         this.httpStatus = httpStatus;
         this.code = code;
         this.message = message;
-        this.properties = new HashMap<>();
-        this.fieldErrors = new ArrayList<>();
-        this.globalErrors = new ArrayList<>();
-        this.parameterErrors = new ArrayList<>();
     }
 
     @JsonIgnore
@@ -47,38 +55,62 @@ public class ApiErrorResponse {
 
     @JsonAnyGetter
     public Map<String, Object> getProperties() {
-        return properties;
+        return propertiesView;
     }
 
     public List<ApiFieldError> getFieldErrors() {
-        return fieldErrors;
+        return fieldErrorsView;
     }
 
     public List<ApiGlobalError> getGlobalErrors() {
-        return globalErrors;
+        return globalErrorsView;
     }
 
     public List<ApiParameterError> getParameterErrors() {
-        return parameterErrors;
+        return parameterErrorsView;
     }
 
     public void addErrorProperties(Map<String, Object> errorProperties) {
-        properties.putAll(errorProperties);
+        if (errorProperties.isEmpty()) {
+            return;
+        }
+        if (properties == null) {
+            properties = new HashMap<>(errorProperties);
+            propertiesView = Collections.unmodifiableMap(properties);
+        } else {
+            properties.putAll(errorProperties);
+        }
     }
 
     public void addErrorProperty(String propertyName, Object propertyValue) {
+        if (properties == null) {
+            properties = new HashMap<>();
+            propertiesView = Collections.unmodifiableMap(properties);
+        }
         properties.put(propertyName, propertyValue);
     }
 
     public void addFieldError(ApiFieldError fieldError) {
+        if (fieldErrors == null) {
+            fieldErrors = new ArrayList<>();
+            fieldErrorsView = Collections.unmodifiableList(fieldErrors);
+        }
         fieldErrors.add(fieldError);
     }
 
     public void addGlobalError(ApiGlobalError globalError) {
+        if (globalErrors == null) {
+            globalErrors = new ArrayList<>();
+            globalErrorsView = Collections.unmodifiableList(globalErrors);
+        }
         globalErrors.add(globalError);
     }
 
     public void addParameterError(ApiParameterError parameterError) {
+        if (parameterErrors == null) {
+            parameterErrors = new ArrayList<>();
+            parameterErrorsView = Collections.unmodifiableList(parameterErrors);
+        }
         parameterErrors.add(parameterError);
     }
 }
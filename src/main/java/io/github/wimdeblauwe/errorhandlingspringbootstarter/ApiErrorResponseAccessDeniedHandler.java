@@ -4,17 +4,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet.ServletApiErrorResponseWriter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Use this {@link AccessDeniedHandler} implementation if you want to have a consistent response
@@ -51,13 +50,23 @@ public class ApiErrorResponseAccessDeniedHandler implements AccessDeniedHandler
     private final HttpStatusMapper httpStatusMapper;
     private final ErrorCodeMapper errorCodeMapper;
     private final ErrorMessageMapper errorMessageMapper;
+    private final ServletApiErrorResponseWriter responseWriter;
 
     public ApiErrorResponseAccessDeniedHandler(ObjectMapper objectMapper, HttpStatusMapper httpStatusMapper, ErrorCodeMapper errorCodeMapper,
                                                ErrorMessageMapper errorMessageMapper) {
+        this(objectMapper, httpStatusMapper, errorCodeMapper, errorMessageMapper, null);
+    }
+
+    /**
+     * @param responseCache the cache to get the JSON response from, or <code>null</code> to always serialize the response.
+     */
+    public ApiErrorResponseAccessDeniedHandler(ObjectMapper objectMapper, HttpStatusMapper httpStatusMapper, ErrorCodeMapper errorCodeMapper,
+                                               ErrorMessageMapper errorMessageMapper, ApiErrorResponseCache responseCache) {
         this.objectMapper = objectMapper;
         this.httpStatusMapper = httpStatusMapper;
         this.errorCodeMapper = errorCodeMapper;
         this.errorMessageMapper = errorMessageMapper;
+        this.responseWriter = new ServletApiErrorResponseWriter(objectMapper, responseCache);
     }
 
     @Override
@@ -65,10 +74,7 @@ public class ApiErrorResponseAccessDeniedHandler implements AccessDeniedHandler
             throws IOException, ServletException {
         ApiErrorResponse errorResponse = createResponse(accessDeniedException);
 
-        response.setStatus(errorResponse.getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        responseWriter.write(response, errorResponse);
     }
 
     public ApiErrorResponse createResponse(AccessDeniedException exception) {
@@ -0,0 +1,268 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the serialized JSON bytes of {@link ApiErrorResponse}s, enabled via the
+ * <code>error.handling.response-cache</code> properties.
+ * <p>
+ * Only responses without field, global or parameter errors, and with simple property values (strings, numbers,
+ * booleans, characters, enums or <code>null</code>) are cached. They are cached based on the HTTP status,
+ * code, message and properties, and the {@link ObjectMapper} that serialized them. When the cache is full, the
+ * least recently used entry of a small sample of entries is evicted, so lookups never take a lock.
+ * <p>
+ * The cache is cleared automatically when the <code>json-field-names</code> or
+ * <code>http-status-in-json-response</code> properties change.
+ * Use {@link #clear()} if anything else that affects the serialization is changed at runtime.
+ */
+public class ApiErrorResponseCache {
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    private final ErrorHandlingProperties properties;
+    private final int maxSize;
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile SerializationSettings serializationSettings;
+
+    public ApiErrorResponseCache(ErrorHandlingProperties properties) {
+        this.properties = properties;
+        this.maxSize = properties.getResponseCache().getMaxSize();
+        this.serializationSettings = SerializationSettings.of(properties);
+    }
+
+    public boolean isEnabled() {
+        return properties.getResponseCache().isEnabled();
+    }
+
+    /**
+     * Get the JSON bytes of the given response, from the cache if possible.
+     * If the cache is disabled or the response cannot be cached, the response is serialized with the given {@link ObjectMapper}.
+     * The returned array can be shared between requests, so it should not be modified.
+     */
+    public byte[] getBytes(ApiErrorResponse errorResponse, ObjectMapper objectMapper) throws JsonProcessingException {
+        if (!isEnabled() || !isCacheable(errorResponse)) {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        }
+
+        Key key = createKey(errorResponse, objectMapper);
+        byte[] bytes = find(key);
+        return bytes != null ? bytes : store(key, errorResponse, objectMapper);
+    }
+
+    /**
+     * Get the JSON bytes of the given response only if it can be cached.
+     * <p>
+     * If the response can be cached but is not in the cache yet, it is serialized with the given {@link ObjectMapper},
+     * added to the cache and the freshly serialized bytes are returned. This allows the caller to write the response
+     * in its usual way (e.g. via content negotiation) when the response cannot be cached.
+     *
+     * @return the JSON bytes, or <code>null</code> if the cache is disabled or the response cannot be cached.
+     */
+    public byte[] getCachedBytes(ApiErrorResponse errorResponse, ObjectMapper objectMapper) throws JsonProcessingException {
+        if (!isEnabled() || !isCacheable(errorResponse)) {
+            return null;
+        }
+
+        Key key = createKey(errorResponse, objectMapper);
+        byte[] bytes = find(key);
+        return bytes != null ? bytes : store(key, errorResponse, objectMapper);
+    }
+
+    /**
+     * Look up the JSON bytes of the given response, serializing and adding them to the cache on a miss.
+     * Unlike {@link #getCachedBytes(ApiErrorResponse, ObjectMapper)}, the result tells whether the bytes came from the cache.
+     *
+     * @return the lookup result, or <code>null</code> if the cache is disabled or the response cannot be cached.
+     */
+    public Lookup lookup(ApiErrorResponse errorResponse, ObjectMapper objectMapper) throws JsonProcessingException {
+        if (!isEnabled() || !isCacheable(errorResponse)) {
+            return null;
+        }
+
+        Key key = createKey(errorResponse, objectMapper);
+        byte[] bytes = find(key);
+        return bytes != null ? new Lookup(bytes, true) : new Lookup(store(key, errorResponse, objectMapper), false);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static Key createKey(ApiErrorResponse errorResponse, ObjectMapper objectMapper) {
+        return new Key(objectMapper, errorResponse.getHttpStatus().value(), errorResponse.getCode(), errorResponse.getMessage(), errorResponse.getProperties());
+    }
+
+    private byte[] find(Key key) {
+        clearIfSerializationChanged();
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            entry.lastAccess = System.nanoTime();
+            hitCount.increment();
+            return entry.bytes;
+        }
+        missCount.increment();
+        return null;
+    }
+
+    private byte[] store(Key key, ApiErrorResponse errorResponse, ObjectMapper objectMapper) throws JsonProcessingException {
+        byte[] bytes = objectMapper.writeValueAsBytes(errorResponse);
+        Key storedKey = new Key(objectMapper, key.status(), key.code(), key.message(), copy(key.properties()));
+        cache.put(storedKey, new Entry(bytes));
+        while (cache.size() > maxSize && evictSample()) {
+            // keep evicting until the cache is within its maximum size again
+        }
+        return bytes;
+    }
+
+    /**
+     * Removes the least recently used entry of the first few entries of the map. As the entries are spread over the
+     * map by the hash of their key, this approximates evicting the least recently used entry without keeping an
+     * access order that all lookups would have to update under a lock.
+     */
+    private boolean evictSample() {
+        Key eldestKey = null;
+        long eldestAccess = Long.MAX_VALUE;
+        Iterator<Map.Entry<Key, Entry>> iterator = cache.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<Key, Entry> candidate = iterator.next();
+            if (eldestKey == null || candidate.getValue().lastAccess - eldestAccess < 0) {
+                eldestKey = candidate.getKey();
+                eldestAccess = candidate.getValue().lastAccess;
+            }
+        }
+        if (eldestKey == null) {
+            return false;
+        }
+        cache.remove(eldestKey);
+        return true;
+    }
+
+    /**
+     * Compares the field name values as well, as they can be changed in place on the same
+     * {@link ErrorHandlingProperties.JsonFieldNames} instance (just like the {@link ApiErrorResponseSerializer} does).
+     */
+    private void clearIfSerializationChanged() {
+        if (serializationSettings.matches(properties)) {
+            return;
+        }
+        synchronized (this) {
+            if (!serializationSettings.matches(properties)) {
+                cache.clear();
+                serializationSettings = SerializationSettings.of(properties);
+            }
+        }
+    }
+
+    private static boolean isCacheable(ApiErrorResponse errorResponse) {
+        if (!errorResponse.getFieldErrors().isEmpty()
+                || !errorResponse.getGlobalErrors().isEmpty()
+                || !errorResponse.getParameterErrors().isEmpty()) {
+            return false;
+        }
+        for (Object value : errorResponse.getProperties().values()) {
+            if (!isSimpleValue(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSimpleValue(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof BigInteger
+                || value instanceof BigDecimal;
+    }
+
+    private static Map<String, Object> copy(Map<String, Object> properties) {
+        if (properties.isEmpty()) {
+            return Map.of();
+        }
+        return Collections.unmodifiableMap(new HashMap<>(properties));
+    }
+
+    /**
+     * The JSON bytes of a response, and whether they were taken from the cache (<code>hit</code>) or were
+     * serialized and added to the cache by the lookup. The bytes can be shared between requests, so they should not be modified.
+     */
+    public record Lookup(byte[] bytes, boolean hit) {
+    }
+
+    private static final class Entry {
+        private final byte[] bytes;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(byte[] bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    private record SerializationSettings(ErrorHandlingProperties.JsonFieldNames jsonFieldNames,
+                                         String codeName,
+                                         String messageName,
+                                         String fieldErrorsName,
+                                         String globalErrorsName,
+                                         String parameterErrorsName,
+                                         boolean httpStatusInJsonResponse) {
+
+        static SerializationSettings of(ErrorHandlingProperties properties) {
+            ErrorHandlingProperties.JsonFieldNames jsonFieldNames = properties.getJsonFieldNames();
+            return new SerializationSettings(jsonFieldNames,
+                                             jsonFieldNames.getCode(),
+                                             jsonFieldNames.getMessage(),
+                                             jsonFieldNames.getFieldErrors(),
+                                             jsonFieldNames.getGlobalErrors(),
+                                             jsonFieldNames.getParameterErrors(),
+                                             properties.isHttpStatusInJsonResponse());
+        }
+
+        boolean matches(ErrorHandlingProperties properties) {
+            ErrorHandlingProperties.JsonFieldNames current = properties.getJsonFieldNames();
+            return jsonFieldNames == current
+                    && codeName.equals(current.getCode())
+                    && messageName.equals(current.getMessage())
+                    && fieldErrorsName.equals(current.getFieldErrors())
+                    && globalErrorsName.equals(current.getGlobalErrors())
+                    && parameterErrorsName.equals(current.getParameterErrors())
+                    && httpStatusInJsonResponse == properties.isHttpStatusInJsonResponse();
+        }
+    }
+
+    /**
+     * The {@link ObjectMapper} does not override <code>equals</code>, so it is compared on identity.
+     */
+    private record Key(ObjectMapper objectMapper, int status, String code, String message, Map<String, Object> properties) {
+    }
+}
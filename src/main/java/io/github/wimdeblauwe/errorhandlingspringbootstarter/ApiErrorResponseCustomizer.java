@@ -2,4 +2,15 @@ package io.github.wimdeblauwe.errorhandlingspringbootstarter;
 
 public interface ApiErrorResponseCustomizer {
     void customize(ApiErrorResponse response);
+
+    /**
+     * Determine if {@link #customize(ApiErrorResponse)} might block the calling thread (e.g. because it does I/O).
+     * In a reactive application with <code>error.handling.reactive-offload</code> set to <code>BLOCKING</code>,
+     * all exceptions are handled on a bounded elastic scheduler instead of the event loop if a customizer is blocking.
+     *
+     * @return true if {@link #customize(ApiErrorResponse)} might block, false otherwise.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
 }
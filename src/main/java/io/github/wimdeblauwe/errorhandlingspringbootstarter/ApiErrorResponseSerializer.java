@@ -1,6 +1,8 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import org.springframework.boot.jackson.JsonComponent;
@@ -9,37 +11,52 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Serializes the {@link ApiErrorResponse} using the field names of the <code>error.handling.json-field-names</code> properties.
+ * <p>
+ * The field names are encoded once as {@link SerializedString}s, and encoded again only when the properties change.
+ * Empty error lists and properties are skipped without iterating over them.
+ */
 @JsonComponent
 public class ApiErrorResponseSerializer extends JsonSerializer<ApiErrorResponse> {
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PROPERTY = new SerializedString("property");
+    private static final SerializableString REJECTED_VALUE = new SerializedString("rejectedValue");
+    private static final SerializableString PATH = new SerializedString("path");
+    private static final SerializableString PARAMETER = new SerializedString("parameter");
 
     private final ErrorHandlingProperties properties;
+    private volatile SerializedFieldNames serializedFieldNames;
 
     public ApiErrorResponseSerializer(ErrorHandlingProperties properties) {
         this.properties = properties;
+        this.serializedFieldNames = new SerializedFieldNames(properties.getJsonFieldNames());
     }
 
     @Override
     public void serialize(ApiErrorResponse errorResponse,
                           JsonGenerator jsonGenerator,
                           SerializerProvider serializerProvider) throws IOException {
+        SerializedFieldNames fieldNames = getSerializedFieldNames();
         jsonGenerator.writeStartObject();
         if (properties.isHttpStatusInJsonResponse()) {
-            jsonGenerator.writeNumberField("status", errorResponse.getHttpStatus().value());
+            jsonGenerator.writeFieldName(STATUS);
+            jsonGenerator.writeNumber(errorResponse.getHttpStatus().value());
         }
-        ErrorHandlingProperties.JsonFieldNames fieldNames = properties.getJsonFieldNames();
-        jsonGenerator.writeStringField(fieldNames.getCode(), errorResponse.getCode());
-        jsonGenerator.writeStringField(fieldNames.getMessage(), errorResponse.getMessage());
+        writeStringField(jsonGenerator, fieldNames.code, errorResponse.getCode());
+        writeStringField(jsonGenerator, fieldNames.message, errorResponse.getMessage());
 
         List<ApiFieldError> fieldErrors = errorResponse.getFieldErrors();
         if (!fieldErrors.isEmpty()) {
-            jsonGenerator.writeArrayFieldStart(fieldNames.getFieldErrors());
+            jsonGenerator.writeFieldName(fieldNames.fieldErrors);
+            jsonGenerator.writeStartArray();
             for (ApiFieldError fieldError : fieldErrors) {
                 jsonGenerator.writeStartObject();
-                jsonGenerator.writeStringField(fieldNames.getCode(), fieldError.getCode());
-                jsonGenerator.writeStringField(fieldNames.getMessage(), fieldError.getMessage());
-                jsonGenerator.writeStringField("property", fieldError.getProperty());
-                jsonGenerator.writeObjectField("rejectedValue", fieldError.getRejectedValue());
-                jsonGenerator.writeObjectField("path", fieldError.getPath());
+                writeStringField(jsonGenerator, fieldNames.code, fieldError.getCode());
+                writeStringField(jsonGenerator, fieldNames.message, fieldError.getMessage());
+                writeStringField(jsonGenerator, PROPERTY, fieldError.getProperty());
+                writeObjectField(jsonGenerator, REJECTED_VALUE, fieldError.getRejectedValue());
+                writeObjectField(jsonGenerator, PATH, fieldError.getPath());
                 jsonGenerator.writeEndObject();
             }
             jsonGenerator.writeEndArray();
@@ -47,11 +64,12 @@ public class ApiErrorResponseSerializer extends JsonSerializer<ApiErrorResponse>
 
         List<ApiGlobalError> globalErrors = errorResponse.getGlobalErrors();
         if (!globalErrors.isEmpty()) {
-            jsonGenerator.writeArrayFieldStart(fieldNames.getGlobalErrors());
+            jsonGenerator.writeFieldName(fieldNames.globalErrors);
+            jsonGenerator.writeStartArray();
             for (ApiGlobalError globalError : globalErrors) {
                 jsonGenerator.writeStartObject();
-                jsonGenerator.writeStringField(fieldNames.getCode(), globalError.getCode());
-                jsonGenerator.writeStringField(fieldNames.getMessage(), globalError.getMessage());
+                writeStringField(jsonGenerator, fieldNames.code, globalError.getCode());
+                writeStringField(jsonGenerator, fieldNames.message, globalError.getMessage());
                 jsonGenerator.writeEndObject();
             }
             jsonGenerator.writeEndArray();
@@ -59,23 +77,85 @@ public class ApiErrorResponseSerializer extends JsonSerializer<ApiErrorResponse>
 
         List<ApiParameterError> parameterErrors = errorResponse.getParameterErrors();
         if (!parameterErrors.isEmpty()) {
-            jsonGenerator.writeArrayFieldStart(fieldNames.getParameterErrors());
+            jsonGenerator.writeFieldName(fieldNames.parameterErrors);
+            jsonGenerator.writeStartArray();
             for (ApiParameterError parameterError : parameterErrors) {
                 jsonGenerator.writeStartObject();
-                jsonGenerator.writeStringField(fieldNames.getCode(), parameterError.getCode());
-                jsonGenerator.writeStringField(fieldNames.getMessage(), parameterError.getMessage());
-                jsonGenerator.writeStringField("parameter", parameterError.getParameter());
-                jsonGenerator.writeObjectField("rejectedValue", parameterError.getRejectedValue());
+                writeStringField(jsonGenerator, fieldNames.code, parameterError.getCode());
+                writeStringField(jsonGenerator, fieldNames.message, parameterError.getMessage());
+                writeStringField(jsonGenerator, PARAMETER, parameterError.getParameter());
+                writeObjectField(jsonGenerator, REJECTED_VALUE, parameterError.getRejectedValue());
                 jsonGenerator.writeEndObject();
             }
             jsonGenerator.writeEndArray();
         }
 
         Map<String, Object> properties = errorResponse.getProperties();
-        for (String property : properties.keySet()) {
-            jsonGenerator.writeObjectField(property, properties.get(property));
+        if (!properties.isEmpty()) {
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                jsonGenerator.writeObjectField(property.getKey(), property.getValue());
+            }
         }
 
         jsonGenerator.writeEndObject();
     }
+
+    private SerializedFieldNames getSerializedFieldNames() {
+        SerializedFieldNames current = serializedFieldNames;
+        if (!current.isValidFor(properties.getJsonFieldNames())) {
+            current = new SerializedFieldNames(properties.getJsonFieldNames());
+            serializedFieldNames = current;
+        }
+        return current;
+    }
+
+    private static void writeStringField(JsonGenerator jsonGenerator, SerializableString fieldName, String value) throws IOException {
+        jsonGenerator.writeFieldName(fieldName);
+        jsonGenerator.writeString(value);
+    }
+
+    private static void writeObjectField(JsonGenerator jsonGenerator, SerializableString fieldName, Object value) throws IOException {
+        jsonGenerator.writeFieldName(fieldName);
+        jsonGenerator.writeObject(value);
+    }
+
+    /**
+     * The encoded field names, together with the property values they were encoded from.
+     */
+    private static final class SerializedFieldNames {
+        private final ErrorHandlingProperties.JsonFieldNames jsonFieldNames;
+        private final String codeName;
+        private final String messageName;
+        private final String fieldErrorsName;
+        private final String globalErrorsName;
+        private final String parameterErrorsName;
+        private final SerializableString code;
+        private final SerializableString message;
+        private final SerializableString fieldErrors;
+        private final SerializableString globalErrors;
+        private final SerializableString parameterErrors;
+
+        private SerializedFieldNames(ErrorHandlingProperties.JsonFieldNames jsonFieldNames) {
+            this.jsonFieldNames = jsonFieldNames;
+            this.codeName = jsonFieldNames.getCode();
+            this.messageName = jsonFieldNames.getMessage();
+            this.fieldErrorsName = jsonFieldNames.getFieldErrors();
+            this.globalErrorsName = jsonFieldNames.getGlobalErrors();
+            this.parameterErrorsName = jsonFieldNames.getParameterErrors();
+            this.code = new SerializedString(codeName);
+            this.message = new SerializedString(messageName);
+            this.fieldErrors = new SerializedString(fieldErrorsName);
+            this.globalErrors = new SerializedString(globalErrorsName);
+            this.parameterErrors = new SerializedString(parameterErrorsName);
+        }
+
+        private boolean isValidFor(ErrorHandlingProperties.JsonFieldNames jsonFieldNames) {
+            return this.jsonFieldNames == jsonFieldNames
+                    && codeName.equals(jsonFieldNames.getCode())
+                    && messageName.equals(jsonFieldNames.getMessage())
+                    && fieldErrorsName.equals(jsonFieldNames.getFieldErrors())
+                    && globalErrorsName.equals(jsonFieldNames.getGlobalErrors())
+                    && parameterErrorsName.equals(jsonFieldNames.getParameterErrors());
+        }
+    }
 }
@@ -20,4 +20,30 @@ public interface ApiExceptionHandler {
      * @return the non-null ApiErrorResponse
      */
     ApiErrorResponse handle(Throwable exception);
+
+    /**
+     * Determine if the outcome of {@link #canHandle(Throwable)} only depends on the class of the {@link Throwable}.
+     * If so, the outcome is remembered per exception class and {@link #canHandle(Throwable)} is not called
+     * again for other exceptions of the same class.
+     * <p>
+     * Override this to return <code>false</code> if {@link #canHandle(Throwable)} looks at the state of the
+     * exception instance (e.g. the message or the cause).
+     *
+     * @return true if the outcome of {@link #canHandle(Throwable)} may be cached per exception class, false otherwise.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Determine if {@link #handle(Throwable)} might block the calling thread (e.g. because it does I/O).
+     * In a reactive application with <code>error.handling.reactive-offload</code> set to <code>BLOCKING</code>,
+     * exceptions that are handled by a blocking handler are handled on a bounded elastic scheduler instead
+     * of the event loop.
+     *
+     * @return true if {@link #handle(Throwable)} might block, false otherwise.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
 }
@@ -0,0 +1,233 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link LoggingService} that hands the exceptions over to a dedicated worker thread, so the error response
+ * does not have to wait for the log appenders.
+ * <p>
+ * The log events are kept in a bounded queue. When the queue is full, new events are dropped
+ * (see {@link ErrorHandlingProperties.AsyncLoggingOverflowPolicy}). The number of dropped events is available
+ * via {@link #getDroppedEventCount()} and is periodically logged as a warning by the worker thread.
+ * <p>
+ * The {@link MDC} of the thread that handled the exception is copied into the log event and restored on the
+ * worker thread while the exception is logged, so correlation ids like the trace id end up in the log line.
+ * <p>
+ * The worker thread is started by {@link #start()}, which Spring calls as part of the application context lifecycle.
+ * Exceptions that are handled before it is started or after it is stopped are logged synchronously.
+ */
+public class AsyncLoggingService extends LoggingService implements SmartLifecycle, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncLoggingService.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int queueCapacity;
+    private final ErrorHandlingProperties.AsyncLoggingOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final Duration shutdownTimeout;
+    private final Queue<LogEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private volatile Thread worker;
+    private volatile boolean closed;
+
+    public AsyncLoggingService(ErrorHandlingProperties properties) {
+        this(properties, new StacktraceDeduplicator(properties), new LogLimiter());
+    }
+
+    public AsyncLoggingService(ErrorHandlingProperties properties, StacktraceDeduplicator stacktraceDeduplicator, LogLimiter logLimiter) {
+        super(properties, stacktraceDeduplicator, logLimiter);
+        ErrorHandlingProperties.AsyncLogging asyncLogging = properties.getAsyncLogging();
+        if (asyncLogging.getQueueCapacity() < 1) {
+            throw new IllegalArgumentException("error.handling.async-logging.queue-capacity should be at least 1");
+        }
+        if (asyncLogging.getSampleRate() < 1) {
+            throw new IllegalArgumentException("error.handling.async-logging.sample-rate should be at least 1");
+        }
+        this.queueCapacity = asyncLogging.getQueueCapacity();
+        this.overflowPolicy = asyncLogging.getOverflowPolicy();
+        this.sampleRate = asyncLogging.getSampleRate();
+        this.shutdownTimeout = asyncLogging.getShutdownTimeout();
+    }
+
+    /**
+     * The place in the queue is reserved before a token is taken from the log limits, so events that are dropped
+     * because the queue is full do not use up the log limits.
+     */
+    @Override
+    public void logException(ApiErrorResponse errorResponse, Throwable exception) {
+        Thread currentWorker = worker;
+        if (currentWorker == null || closed) {
+            super.logException(errorResponse, exception);
+            return;
+        }
+        if (!isLogged(errorResponse, exception)) {
+            return;
+        }
+        int size = queueSize.incrementAndGet();
+        if (size > queueCapacity || !isSampled(size)) {
+            queueSize.decrementAndGet();
+            droppedEventCount.incrementAndGet();
+            return;
+        }
+        if (!tryAcquireLogLimits(errorResponse)) {
+            queueSize.decrementAndGet();
+            return;
+        }
+        queue.offer(new LogEvent(errorResponse, exception, MDC.getCopyOfContextMap()));
+        if (closed) {
+            // The worker might have stopped between the check above and the offer, so it might never see this event
+            logQueuedEvents();
+        } else if (size == 1) {
+            LockSupport.unpark(currentWorker);
+        }
+    }
+
+    /**
+     * Start the worker thread that logs the queued exceptions.
+     */
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        Thread newWorker = new Thread(this::drainQueue, "error-handling-async-logging");
+        newWorker.setDaemon(true);
+        closed = false;
+        worker = newWorker;
+        newWorker.start();
+    }
+
+    @Override
+    public void stop() {
+        close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null && !closed;
+    }
+
+    /**
+     * Start as early and stop as late as possible, so the exceptions that are handled while the web server
+     * shuts down are still logged asynchronously.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * @return the total number of log events that were dropped because the queue was full (or because of sampling).
+     */
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    /**
+     * @return the number of log events that are waiting to be logged.
+     */
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * Stops accepting new log events and waits (at most the configured <code>shutdown-timeout</code>)
+     * until the queued log events are logged. Exceptions that are handled after this are logged synchronously.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Thread currentWorker = worker;
+        if (currentWorker == null) {
+            return;
+        }
+        LockSupport.unpark(currentWorker);
+        try {
+            currentWorker.join(Math.max(1, shutdownTimeout.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (currentWorker.isAlive()) {
+            LOGGER.warn("{} error log events were not logged before the shutdown timeout", queueSize.get());
+        }
+    }
+
+    private boolean isSampled(int size) {
+        if (overflowPolicy != ErrorHandlingProperties.AsyncLoggingOverflowPolicy.SAMPLE || size <= queueCapacity / 2) {
+            return true;
+        }
+        return sampleCounter.getAndIncrement() % sampleRate == 0;
+    }
+
+    private void drainQueue() {
+        long reportedDroppedEventCount = 0;
+        while (true) {
+            LogEvent event = queue.poll();
+            if (event == null) {
+                reportedDroppedEventCount = reportDroppedEvents(reportedDroppedEventCount);
+                if (closed && queueSize.get() == 0) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            queueSize.decrementAndGet();
+            log(event);
+        }
+    }
+
+    /**
+     * Log the queued events on the calling thread, keeping the {@link MDC} of that thread intact.
+     */
+    private void logQueuedEvents() {
+        Map<String, String> callerMdc = MDC.getCopyOfContextMap();
+        try {
+            LogEvent event;
+            while ((event = queue.poll()) != null) {
+                queueSize.decrementAndGet();
+                log(event);
+            }
+        } finally {
+            if (callerMdc != null) {
+                MDC.setContextMap(callerMdc);
+            }
+        }
+    }
+
+    private void log(LogEvent event) {
+        if (event.mdc() != null) {
+            MDC.setContextMap(event.mdc());
+        }
+        try {
+            doLogException(event.errorResponse(), event.exception());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Unable to log exception {}", event.exception().getClass().getName(), e);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private long reportDroppedEvents(long reportedDroppedEventCount) {
+        long current = droppedEventCount.get();
+        if (current > reportedDroppedEventCount) {
+            LOGGER.warn("Dropped {} error log events because the async logging queue was full", current - reportedDroppedEventCount);
+        }
+        return current;
+    }
+
+    private record LogEvent(ApiErrorResponse errorResponse, Throwable exception, Map<String, String> mdc) {
+    }
+}
@@ -15,11 +15,19 @@ import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 
 public class DefaultFallbackApiExceptionHandler implements FallbackApiExceptionHandler {
@@ -28,6 +36,18 @@ public class DefaultFallbackApiExceptionHandler implements FallbackApiExceptionH
     private final HttpStatusMapper httpStatusMapper;
     private final ErrorCodeMapper errorCodeMapper;
     private final ErrorMessageMapper errorMessageMapper;
+    private final ClassValue<List<ResponseErrorPropertyAccessor>> responseErrorPropertyAccessors = new ClassValue<>() {
+        @Override
+        protected List<ResponseErrorPropertyAccessor> computeValue(Class<?> exceptionClass) {
+            return createResponseErrorPropertyAccessors(exceptionClass);
+        }
+    };
+    private final ClassValue<Map<Method, PropertyValueReader>> methodValueReaders = new ClassValue<>() {
+        @Override
+        protected Map<Method, PropertyValueReader> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     public DefaultFallbackApiExceptionHandler(HttpStatusMapper httpStatusMapper,
                                               ErrorCodeMapper errorCodeMapper,
@@ -44,51 +64,81 @@ public class DefaultFallbackApiExceptionHandler implements FallbackApiExceptionH
         String errorMessage = errorMessageMapper.getErrorMessage(exception);
 
         ApiErrorResponse response = new ApiErrorResponse(statusCode, errorCode, errorMessage);
-        response.addErrorProperties(getMethodResponseErrorProperties(exception));
-        response.addErrorProperties(getFieldResponseErrorProperties(exception));
-
-        return response;
-    }
-
-    private Map<String, Object> getFieldResponseErrorProperties(Throwable exception) {
-        Map<String, Object> result = new HashMap<>();
-        ReflectionUtils.doWithFields(exception.getClass(), field -> {
-            if (field.isAnnotationPresent(ResponseErrorProperty.class)) {
-                try {
-                    field.setAccessible(true);
-                    Object value = field.get(exception);
-                    if (value != null || field.getAnnotation(ResponseErrorProperty.class).includeIfNull()) {
-                        result.put(getPropertyName(field), value);
-                    }
-                } catch (IllegalAccessException e) {
-                    LOGGER.error(String.format("Unable to use field result of field %s.%s", exception.getClass().getName(), field.getName()));
+        for (ResponseErrorPropertyAccessor accessor : responseErrorPropertyAccessors.get(exception.getClass())) {
+            try {
+                Object value = accessor.valueReader().read(exception);
+                if (value != null || accessor.includeIfNull()) {
+                    response.addErrorProperty(accessor.name(), value);
                 }
+            } catch (Exception e) {
+                LOGGER.error(String.format("Unable to use %s %s.%s", accessor.kind(), exception.getClass().getName(), accessor.memberName()));
             }
-        });
-        return result;
+        }
+
+        return response;
     }
 
-    private Map<String, Object> getMethodResponseErrorProperties(Throwable exception) {
-        Map<String, Object> result = new HashMap<>();
-        Class<? extends Throwable> exceptionClass = exception.getClass();
+    /**
+     * Collect the accessors for all {@link ResponseErrorProperty} annotated methods and fields of the given class
+     * and its superclasses. The methods come first, so a field wins over a method with the same property name.
+     */
+    private List<ResponseErrorPropertyAccessor> createResponseErrorPropertyAccessors(Class<?> exceptionClass) {
+        List<ResponseErrorPropertyAccessor> result = new ArrayList<>();
         ReflectionUtils.doWithMethods(exceptionClass, method -> {
             if (method.isAnnotationPresent(ResponseErrorProperty.class)
                     && method.getReturnType() != Void.TYPE
                     && method.getParameterCount() == 0) {
-                try {
-                    method.setAccessible(true);
-
-                    Object value = method.invoke(exception);
-                    if (value != null || method.getAnnotation(ResponseErrorProperty.class).includeIfNull()) {
-                        result.put(getPropertyName(exceptionClass, method),
-                                   value);
-                    }
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    LOGGER.error(String.format("Unable to use method result of method %s.%s", exceptionClass.getName(), method.getName()));
-                }
+                result.add(new ResponseErrorPropertyAccessor(getPropertyName(exceptionClass, method),
+                                                             method.getAnnotation(ResponseErrorProperty.class).includeIfNull(),
+                                                             "method result of method",
+                                                             method.getName(),
+                                                             methodValueReaders.get(method.getDeclaringClass())
+                                                                               .computeIfAbsent(method, this::createValueReader)));
             }
         });
-        return result;
+        ReflectionUtils.doWithFields(exceptionClass, field -> {
+            if (field.isAnnotationPresent(ResponseErrorProperty.class)) {
+                field.setAccessible(true);
+                result.add(new ResponseErrorPropertyAccessor(getPropertyName(field),
+                                                             field.getAnnotation(ResponseErrorProperty.class).includeIfNull(),
+                                                             "field result of field",
+                                                             field.getName(),
+                                                             field::get));
+            }
+        });
+        return List.copyOf(result);
+    }
+
+    /**
+     * Public methods of public classes are read through a {@link Function} spun by the {@link LambdaMetafactory},
+     * which the JIT can inline like a direct call. Other methods, and methods for which the function cannot be
+     * spun, are read through reflection.
+     */
+    private PropertyValueReader createValueReader(Method method) {
+        if (Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            try {
+                Function<Object, Object> function = spinFunction(method);
+                return function::apply;
+            } catch (Throwable e) {
+                LOGGER.debug("Unable to create accessor function for method {}.{}, using reflection instead",
+                             method.getDeclaringClass().getName(), method.getName(), e);
+            }
+        }
+        method.setAccessible(true);
+        return method::invoke;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> spinFunction(Method method) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+        MethodHandle getter = lookup.unreflect(method);
+        CallSite callSite = LambdaMetafactory.metafactory(lookup,
+                                                          "apply",
+                                                          MethodType.methodType(Function.class),
+                                                          MethodType.methodType(Object.class, Object.class),
+                                                          getter,
+                                                          getter.type().wrap());
+        return (Function<Object, Object>) callSite.getTarget().invokeExact();
     }
 
     private String getPropertyName(Field field) {
@@ -101,7 +151,7 @@ public class DefaultFallbackApiExceptionHandler implements FallbackApiExceptionH
         return field.getName();
     }
 
-    private String getPropertyName(Class<? extends Throwable> exceptionClass, Method method) {
+    private String getPropertyName(Class<?> exceptionClass, Method method) {
         ResponseErrorProperty annotation = AnnotationUtils.getAnnotation(method, ResponseErrorProperty.class);
         assert annotation != null;
         if (StringUtils.hasText(annotation.value())) {
@@ -112,7 +162,7 @@ public class DefaultFallbackApiExceptionHandler implements FallbackApiExceptionH
             BeanInfo beanInfo = Introspector.getBeanInfo(exceptionClass);
             PropertyDescriptor[] propertyDescriptors = beanInfo.getPropertyDescriptors();
             for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
-                if (propertyDescriptor.getReadMethod().equals(method)) {
+                if (method.equals(propertyDescriptor.getReadMethod())) {
                     return propertyDescriptor.getName();
                 }
             }
@@ -122,4 +172,19 @@ public class DefaultFallbackApiExceptionHandler implements FallbackApiExceptionH
 
         return method.getName();
     }
+
+    @FunctionalInterface
+    private interface PropertyValueReader {
+        Object read(Throwable exception) throws Exception;
+    }
+
+    /**
+     * The resolved name and settings of a single {@link ResponseErrorProperty}, together with the way to read its value.
+     */
+    private record ResponseErrorPropertyAccessor(String name,
+                                                 boolean includeIfNull,
+                                                 String kind,
+                                                 String memberName,
+                                                 PropertyValueReader valueReader) {
+    }
 }
@@ -0,0 +1,23 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+/**
+ * Information about an exception that was handled by the {@link ErrorHandlingFacade}.
+ *
+ * @param exception       the exception that was handled.
+ * @param errorResponse   the response for the exception, after the {@link ApiErrorResponseCustomizer}s were applied.
+ * @param handler         the handler that created the response, or <code>null</code> if the {@link FallbackApiExceptionHandler} was used.
+ * @param durationNanos   the time it took to create, customize and log the response.
+ * @param customizerNanos the part of the duration that was spent in the {@link ApiErrorResponseCustomizer}s.
+ * @param loggingNanos    the part of the duration that was spent in the {@link LoggingService}.
+ */
+public record ErrorHandlingEvent(Throwable exception,
+                                 ApiErrorResponse errorResponse,
+                                 ApiExceptionHandler handler,
+                                 long durationNanos,
+                                 long customizerNanos,
+                                 long loggingNanos) {
+
+    public boolean isFallback() {
+        return handler == null;
+    }
+}
@@ -1,7 +1,9 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr.ErrorHandledEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,34 +14,141 @@ public class ErrorHandlingFacade {
     private final FallbackApiExceptionHandler fallbackHandler;
     private final LoggingService loggingService;
     private final List<ApiErrorResponseCustomizer> responseCustomizers;
+    private final boolean blockingResponseCustomizers;
+    private final List<ErrorHandlingListener> listeners;
+    private final ClassValue<HandlerDispatchHolder> handlerDispatchCache = new ClassValue<>() {
+        @Override
+        protected HandlerDispatchHolder computeValue(Class<?> exceptionClass) {
+            return new HandlerDispatchHolder();
+        }
+    };
 
     public ErrorHandlingFacade(List<ApiExceptionHandler> handlers, FallbackApiExceptionHandler fallbackHandler, LoggingService loggingService,
                                List<ApiErrorResponseCustomizer> responseCustomizers) {
+        this(handlers, fallbackHandler, loggingService, responseCustomizers, List.of());
+    }
+
+    public ErrorHandlingFacade(List<ApiExceptionHandler> handlers, FallbackApiExceptionHandler fallbackHandler, LoggingService loggingService,
+                               List<ApiErrorResponseCustomizer> responseCustomizers, List<ErrorHandlingListener> listeners) {
         this.handlers = handlers;
         this.fallbackHandler = fallbackHandler;
         this.loggingService = loggingService;
         this.responseCustomizers = responseCustomizers;
+        this.blockingResponseCustomizers = responseCustomizers.stream().anyMatch(ApiErrorResponseCustomizer::isBlocking);
+        this.listeners = List.copyOf(listeners);
     }
 
     public ApiErrorResponse handle(Throwable exception) {
+        ErrorHandledEvent jfrEvent = new ErrorHandledEvent();
+        boolean timed = jfrEvent.isEnabled() || !listeners.isEmpty();
+        long startNanos = timed ? System.nanoTime() : 0;
+        jfrEvent.begin();
         ApiErrorResponse errorResponse = null;
-        for (ApiExceptionHandler handler : handlers) {
-            if (handler.canHandle(exception)) {
-                errorResponse = handler.handle(exception);
-                break;
-            }
+        ApiExceptionHandler handler = findHandler(exception);
+        if (handler != null) {
+            errorResponse = handler.handle(exception);
         }
 
         if (errorResponse == null) {
+            handler = null;
             errorResponse = fallbackHandler.handle(exception);
         }
 
+        long customizerStartNanos = timed ? System.nanoTime() : 0;
         for (ApiErrorResponseCustomizer responseCustomizer : responseCustomizers) {
             responseCustomizer.customize(errorResponse);
         }
 
+        long loggingStartNanos = timed ? System.nanoTime() : 0;
         loggingService.logException(errorResponse, exception);
 
+        if (timed) {
+            long endNanos = System.nanoTime();
+            if (jfrEvent.shouldCommit()) {
+                jfrEvent.exceptionClass = exception.getClass().getName();
+                jfrEvent.handler = handler != null ? handler.getClass().getName() : fallbackHandler.getClass().getName();
+                jfrEvent.fallback = handler == null;
+                jfrEvent.status = errorResponse.getHttpStatus().value();
+                jfrEvent.code = errorResponse.getCode();
+                jfrEvent.customizerDuration = loggingStartNanos - customizerStartNanos;
+                jfrEvent.loggingDuration = endNanos - loggingStartNanos;
+                jfrEvent.commit();
+            }
+            if (!listeners.isEmpty()) {
+                notifyListeners(new ErrorHandlingEvent(exception, errorResponse, handler, endNanos - startNanos,
+                                                       loggingStartNanos - customizerStartNanos, endNanos - loggingStartNanos));
+            }
+        }
+
         return errorResponse;
     }
+
+    /**
+     * Determine if {@link #handle(Throwable)} might block for the given exception, because the handler that will
+     * handle it or one of the response customizers is blocking.
+     *
+     * @see ApiExceptionHandler#isBlocking()
+     * @see ApiErrorResponseCustomizer#isBlocking()
+     */
+    public boolean isBlocking(Throwable exception) {
+        if (blockingResponseCustomizers) {
+            return true;
+        }
+        ApiExceptionHandler handler = findHandler(exception);
+        // The fallback handler is also used if the handler returns null
+        return (handler != null && handler.isBlocking()) || fallbackHandler.isBlocking();
+    }
+
+    private void notifyListeners(ErrorHandlingEvent event) {
+        for (ErrorHandlingListener listener : listeners) {
+            try {
+                listener.onErrorHandled(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Error handling listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private ApiExceptionHandler findHandler(Throwable exception) {
+        HandlerDispatchHolder holder = handlerDispatchCache.get(exception.getClass());
+        HandlerDispatch dispatch = holder.dispatch;
+        if (dispatch == null) {
+            dispatch = resolveHandlerDispatch(exception);
+            holder.dispatch = dispatch;
+        }
+
+        for (ApiExceptionHandler handler : dispatch.nonCacheableHandlers()) {
+            if (handler.canHandle(exception)) {
+                return handler;
+            }
+        }
+        return dispatch.cachedHandler();
+    }
+
+    private HandlerDispatch resolveHandlerDispatch(Throwable exception) {
+        List<ApiExceptionHandler> nonCacheableHandlers = new ArrayList<>();
+        for (ApiExceptionHandler handler : handlers) {
+            if (!handler.isCacheable()) {
+                nonCacheableHandlers.add(handler);
+            } else if (handler.canHandle(exception)) {
+                LOGGER.debug("Using {} for exceptions of type {}", handler, exception.getClass().getName());
+                return new HandlerDispatch(List.copyOf(nonCacheableHandlers), handler);
+            }
+        }
+        LOGGER.debug("Using fallback handler for exceptions of type {}", exception.getClass().getName());
+        return new HandlerDispatch(List.copyOf(nonCacheableHandlers), null);
+    }
+
+    /**
+     * The handlers to consider for a single exception class: the handlers that are not cacheable
+     * and come before the first cacheable handler that accepted the class (in order), and that cacheable
+     * handler itself (or <code>null</code> if the fallback handler should be used).
+     */
+    private record HandlerDispatch(List<ApiExceptionHandler> nonCacheableHandlers,
+                                   ApiExceptionHandler cachedHandler) {
+    }
+
+    private static final class HandlerDispatchHolder {
+        private volatile HandlerDispatch dispatch;
+    }
 }
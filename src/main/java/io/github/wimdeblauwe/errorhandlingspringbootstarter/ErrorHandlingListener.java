@@ -0,0 +1,11 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+/**
+ * Listener that is notified by the {@link ErrorHandlingFacade} each time an exception was handled,
+ * for instance to record metrics. All beans of this type are registered automatically.
+ * <p>
+ * Listeners are called on the thread that handled the exception, so they should not block.
+ */
+public interface ErrorHandlingListener {
+    void onErrorHandled(ErrorHandlingEvent event);
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.logging.LogLevel;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,8 @@ public class ErrorHandlingProperties {
 
     private List<Class<? extends Throwable>> fullStacktraceClasses = new ArrayList<>();
 
+    private boolean fullStacktraceClassesIncludeSubclasses = false;
+
     private List<String> fullStacktraceHttpStatuses = new ArrayList<>();
 
     private Map<String, LogLevel> logLevels = new HashMap<>();
@@ -41,6 +44,22 @@ public class ErrorHandlingProperties {
 
     private boolean handleFilterChainExceptions = false;
 
+    private AsyncLogging asyncLogging = new AsyncLogging();
+
+    private StacktraceDeduplication stacktraceDeduplication = new StacktraceDeduplication();
+
+    private LogLimits logLimits = new LogLimits();
+
+    private ResponseCache responseCache = new ResponseCache();
+
+    private Metrics metrics = new Metrics();
+
+    private boolean reactiveDirectWrite = false;
+
+    private ReactiveOffload reactiveOffload = ReactiveOffload.NONE;
+
+    private Duration reactiveCustomizerTimeout = Duration.ofSeconds(1);
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -73,6 +92,14 @@ public class ErrorHandlingProperties {
         this.fullStacktraceClasses = fullStacktraceClasses;
     }
 
+    public boolean isFullStacktraceClassesIncludeSubclasses() {
+        return fullStacktraceClassesIncludeSubclasses;
+    }
+
+    public void setFullStacktraceClassesIncludeSubclasses(boolean fullStacktraceClassesIncludeSubclasses) {
+        this.fullStacktraceClassesIncludeSubclasses = fullStacktraceClassesIncludeSubclasses;
+    }
+
     public List<String> getFullStacktraceHttpStatuses() {
         return fullStacktraceHttpStatuses;
     }
@@ -153,6 +180,70 @@ public class ErrorHandlingProperties {
         this.handleFilterChainExceptions = handleFilterChainExceptions;
     }
 
+    public AsyncLogging getAsyncLogging() {
+        return asyncLogging;
+    }
+
+    public void setAsyncLogging(AsyncLogging asyncLogging) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public StacktraceDeduplication getStacktraceDeduplication() {
+        return stacktraceDeduplication;
+    }
+
+    public void setStacktraceDeduplication(StacktraceDeduplication stacktraceDeduplication) {
+        this.stacktraceDeduplication = stacktraceDeduplication;
+    }
+
+    public LogLimits getLogLimits() {
+        return logLimits;
+    }
+
+    public void setLogLimits(LogLimits logLimits) {
+        this.logLimits = logLimits;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public boolean isReactiveDirectWrite() {
+        return reactiveDirectWrite;
+    }
+
+    public void setReactiveDirectWrite(boolean reactiveDirectWrite) {
+        this.reactiveDirectWrite = reactiveDirectWrite;
+    }
+
+    public ReactiveOffload getReactiveOffload() {
+        return reactiveOffload;
+    }
+
+    public void setReactiveOffload(ReactiveOffload reactiveOffload) {
+        this.reactiveOffload = reactiveOffload;
+    }
+
+    public Duration getReactiveCustomizerTimeout() {
+        return reactiveCustomizerTimeout;
+    }
+
+    public void setReactiveCustomizerTimeout(Duration reactiveCustomizerTimeout) {
+        this.reactiveCustomizerTimeout = reactiveCustomizerTimeout;
+    }
+
     public enum ExceptionLogging {
         NO_LOGGING,
         MESSAGE_ONLY,
@@ -164,6 +255,223 @@ public class ErrorHandlingProperties {
         ALL_CAPS
     }
 
+    public enum AsyncLoggingOverflowPolicy {
+        /**
+         * Drop the log events that do not fit in the queue anymore.
+         */
+        DROP,
+        /**
+         * Only keep 1 out of <code>sample-rate</code> log events once the queue is half full,
+         * and drop the log events that do not fit in the queue anymore.
+         */
+        SAMPLE
+    }
+
+    public enum ReactiveOffload {
+        /**
+         * Always handle the exception on the thread that signalled it (usually a Netty event loop thread).
+         */
+        NONE,
+        /**
+         * Handle the exception on a bounded elastic scheduler if the exception handler or one of the
+         * response customizers returns <code>true</code> from <code>isBlocking()</code>.
+         */
+        BLOCKING,
+        /**
+         * Always handle the exception on a bounded elastic scheduler.
+         */
+        ALL
+    }
+
+    public static class AsyncLogging {
+        private boolean enabled = false;
+        private int queueCapacity = 1024;
+        private AsyncLoggingOverflowPolicy overflowPolicy = AsyncLoggingOverflowPolicy.DROP;
+        private int sampleRate = 10;
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public AsyncLoggingOverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(AsyncLoggingOverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public int getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+    }
+
+    public static class StacktraceDeduplication {
+        private boolean enabled = false;
+        private int frameCount = 5;
+        private Duration window = Duration.ofMinutes(1);
+        private int maxFingerprints = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getFrameCount() {
+            return frameCount;
+        }
+
+        public void setFrameCount(int frameCount) {
+            this.frameCount = frameCount;
+        }
+
+        public Duration getWindow() {
+            return window;
+        }
+
+        public void setWindow(Duration window) {
+            this.window = window;
+        }
+
+        public int getMaxFingerprints() {
+            return maxFingerprints;
+        }
+
+        public void setMaxFingerprints(int maxFingerprints) {
+            this.maxFingerprints = maxFingerprints;
+        }
+    }
+
+    public static class LogLimits {
+        private Map<String, LogLimit> httpStatuses = new HashMap<>();
+        private Map<String, LogLimit> codes = new HashMap<>();
+
+        public Map<String, LogLimit> getHttpStatuses() {
+            return httpStatuses;
+        }
+
+        public void setHttpStatuses(Map<String, LogLimit> httpStatuses) {
+            this.httpStatuses = httpStatuses;
+        }
+
+        public Map<String, LogLimit> getCodes() {
+            return codes;
+        }
+
+        public void setCodes(Map<String, LogLimit> codes) {
+            this.codes = codes;
+        }
+    }
+
+    public static class LogLimit {
+        private int maxPerSecond = 0;
+        private double sampleRatio = 1.0;
+
+        public int getMaxPerSecond() {
+            return maxPerSecond;
+        }
+
+        public void setMaxPerSecond(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+        }
+
+        public double getSampleRatio() {
+            return sampleRatio;
+        }
+
+        public void setSampleRatio(double sampleRatio) {
+            this.sampleRatio = sampleRatio;
+        }
+    }
+
+    public static class ResponseCache {
+        private boolean enabled = false;
+        private int maxSize = 256;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    public static class Metrics {
+        private boolean enabled = false;
+        private List<String> allowedCodes = new ArrayList<>();
+        private int maxCodes = 100;
+        private int maxExceptionsPerCode = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<String> getAllowedCodes() {
+            return allowedCodes;
+        }
+
+        public void setAllowedCodes(List<String> allowedCodes) {
+            this.allowedCodes = allowedCodes;
+        }
+
+        public int getMaxCodes() {
+            return maxCodes;
+        }
+
+        public void setMaxCodes(int maxCodes) {
+            this.maxCodes = maxCodes;
+        }
+
+        public int getMaxExceptionsPerCode() {
+            return maxExceptionsPerCode;
+        }
+
+        public void setMaxExceptionsPerCode(int maxExceptionsPerCode) {
+            this.maxExceptionsPerCode = maxExceptionsPerCode;
+        }
+    }
+
     public static class JsonFieldNames {
         private String code = "code";
         private String message = "message";
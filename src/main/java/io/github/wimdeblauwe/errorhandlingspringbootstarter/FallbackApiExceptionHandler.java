@@ -2,4 +2,12 @@ package io.github.wimdeblauwe.errorhandlingspringbootstarter;
 
 public interface FallbackApiExceptionHandler {
     ApiErrorResponse handle(Throwable exception);
+
+    /**
+     * @return true if {@link #handle(Throwable)} might block the calling thread, false otherwise.
+     * @see ApiExceptionHandler#isBlocking()
+     */
+    default boolean isBlocking() {
+        return false;
+    }
 }
@@ -0,0 +1,135 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Enforces the {@link ErrorHandlingProperties.LogLimit}s of the <code>error.handling.log-limits</code> properties.
+ * <p>
+ * Every limit with a <code>max-per-second</code> gets its own token bucket that holds at most <code>max-per-second</code>
+ * tokens and is refilled continuously. The bucket is a single {@link AtomicLong} that is updated with compare-and-set
+ * (the "generic cell rate algorithm"), so no locks are taken on the logging path.
+ */
+public class LogLimiter {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongSupplier nanoTime;
+    private final Map<ErrorHandlingProperties.LogLimit, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+
+    public LogLimiter() {
+        this(System::nanoTime);
+    }
+
+    public LogLimiter(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @param logLimit the limit to check, can be <code>null</code> if there is no limit.
+     * @return <code>true</code> if the exception can be logged according to the limit.
+     */
+    public boolean tryAcquire(ErrorHandlingProperties.LogLimit logLimit) {
+        if (!isSampled(logLimit)) {
+            return false;
+        }
+        TokenBucket tokenBucket = getTokenBucket(logLimit);
+        return tokenBucket == null || tokenBucket.tryAcquire(nanoTime.getAsLong());
+    }
+
+    /**
+     * Check two limits that both apply to the same exception. A token is only taken from the first limit if the
+     * second limit allows the exception as well, so a rejection by one limit does not use up the other one.
+     *
+     * @param first  the first limit to check, can be <code>null</code> if there is no limit.
+     * @param second the second limit to check, can be <code>null</code> if there is no limit.
+     * @return <code>true</code> if the exception can be logged according to both limits.
+     */
+    public boolean tryAcquire(ErrorHandlingProperties.LogLimit first, ErrorHandlingProperties.LogLimit second) {
+        if (!isSampled(first) || !isSampled(second)) {
+            return false;
+        }
+        TokenBucket firstBucket = getTokenBucket(first);
+        TokenBucket secondBucket = getTokenBucket(second);
+        long now = nanoTime.getAsLong();
+        if (firstBucket != null && !firstBucket.tryAcquire(now)) {
+            return false;
+        }
+        if (secondBucket != null && !secondBucket.tryAcquire(now)) {
+            if (firstBucket != null) {
+                firstBucket.release();
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Forget the token buckets, so changes to the limits are picked up.
+     */
+    public void clear() {
+        tokenBuckets.clear();
+    }
+
+    private static boolean isSampled(ErrorHandlingProperties.LogLimit logLimit) {
+        if (logLimit == null) {
+            return true;
+        }
+        double sampleRatio = logLimit.getSampleRatio();
+        return sampleRatio >= 1.0 || (sampleRatio > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRatio);
+    }
+
+    /**
+     * @return the token bucket of the limit, or <code>null</code> if the limit has no <code>max-per-second</code>.
+     */
+    private TokenBucket getTokenBucket(ErrorHandlingProperties.LogLimit logLimit) {
+        if (logLimit == null) {
+            return null;
+        }
+        int maxPerSecond = logLimit.getMaxPerSecond();
+        if (maxPerSecond <= 0) {
+            return null;
+        }
+        return tokenBuckets.computeIfAbsent(logLimit, limit -> new TokenBucket(maxPerSecond, nanoTime.getAsLong()));
+    }
+
+    private static final class TokenBucket {
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final long startNanos;
+        /**
+         * The time at which the bucket will be full again, relative to the start of this bucket.
+         */
+        private final AtomicLong theoreticalArrivalTime = new AtomicLong();
+
+        private TokenBucket(int maxPerSecond, long startNanos) {
+            this.emissionIntervalNanos = NANOS_PER_SECOND / maxPerSecond;
+            this.burstNanos = emissionIntervalNanos * maxPerSecond;
+            this.startNanos = startNanos;
+        }
+
+        private boolean tryAcquire(long nowNanos) {
+            long now = nowNanos - startNanos;
+            while (true) {
+                long current = theoreticalArrivalTime.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Give back a token that was taken by {@link #tryAcquire(long)}.
+         */
+        private void release() {
+            theoreticalArrivalTime.addAndGet(-emissionIntervalNanos);
+        }
+    }
+}
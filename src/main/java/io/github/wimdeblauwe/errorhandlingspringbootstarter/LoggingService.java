@@ -3,62 +3,198 @@ package io.github.wimdeblauwe.errorhandlingspringbootstarter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.logging.LogLevel;
-import org.springframework.http.HttpStatusCode;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Logs the handled exceptions according to the logging related {@link ErrorHandlingProperties}.
+ * <p>
+ * The log level, the full stacktrace decision and the log limit for the HTTP statuses 100 to 599 are computed once
+ * from the <code>log-levels</code>, <code>full-stacktrace-http-statuses</code> and <code>log-limits.http-statuses</code> properties, and the
+ * <code>full-stacktrace-classes</code> are matched once per exception class. These are recomputed automatically
+ * when those properties are replaced (which is what happens when the properties are bound again).
+ * Use {@link #clearCache()} if they are modified in place after exceptions have been logged.
+ */
 public class LoggingService {
     private static final Logger LOGGER = LoggerFactory.getLogger(LoggingService.class);
+    private static final int MIN_TABLE_STATUS = 100;
+    private static final int MAX_TABLE_STATUS = 599;
+
     private final ErrorHandlingProperties properties;
+    private final StacktraceDeduplicator stacktraceDeduplicator;
+    private final LogLimiter logLimiter;
+    private volatile LogDecisions logDecisions;
 
     public LoggingService(ErrorHandlingProperties properties) {
+        this(properties, new StacktraceDeduplicator(properties));
+    }
+
+    public LoggingService(ErrorHandlingProperties properties, StacktraceDeduplicator stacktraceDeduplicator) {
+        this(properties, stacktraceDeduplicator, new LogLimiter());
+    }
+
+    public LoggingService(ErrorHandlingProperties properties, StacktraceDeduplicator stacktraceDeduplicator, LogLimiter logLimiter) {
         this.properties = properties;
+        this.stacktraceDeduplicator = stacktraceDeduplicator;
+        this.logLimiter = logLimiter;
     }
 
     public void logException(ApiErrorResponse errorResponse, Throwable exception) {
-        HttpStatusCode httpStatus = errorResponse.getHttpStatus();
-        if (properties.getFullStacktraceClasses().contains(exception.getClass())) {
-            logAccordingToRequestedLogLevel(httpStatus, exception, true);
-        } else if (!properties.getFullStacktraceHttpStatuses().isEmpty()) {
-            boolean alreadyLogged = logFullStacktraceIfNeeded(httpStatus, exception);
-            if (!alreadyLogged) {
-                doStandardFallbackLogging(httpStatus, exception);
-            }
-        } else {
-            doStandardFallbackLogging(httpStatus, exception);
+        if (shouldLog(errorResponse, exception)) {
+            doLogException(errorResponse, exception);
         }
     }
 
-    private void logAccordingToRequestedLogLevel(HttpStatusCode httpStatus, Throwable exception, boolean includeStacktrace) {
-        String httpStatusValue = String.valueOf(httpStatus.value());
-        if (properties.getLogLevels().get(httpStatusValue) != null) {
-            doLogOnLogLevel(properties.getLogLevels().get(httpStatusValue), exception, includeStacktrace);
-        } else if (properties.getLogLevels().get(getStatusWithLastNumberAsWildcard(httpStatusValue)) != null) {
-            doLogOnLogLevel(properties.getLogLevels().get(getStatusWithLastNumberAsWildcard(httpStatusValue)), exception, includeStacktrace);
-        } else if (properties.getLogLevels().get(getStatusWithLastTwoNumbersAsWildcard(httpStatusValue)) != null) {
-            doLogOnLogLevel(properties.getLogLevels().get(getStatusWithLastTwoNumbersAsWildcard(httpStatusValue)), exception, includeStacktrace);
+    /**
+     * Check if an exception that resulted in the given response should be logged, taking the log level,
+     * the <code>exception-logging</code> and the <code>error.handling.log-limits</code> into account.
+     * This takes a token from the rate limits (if any, and only if the exception would be logged otherwise),
+     * so call this only once for each exception, and use {@link #doLogException(ApiErrorResponse, Throwable)}
+     * to log the exception afterwards.
+     */
+    protected boolean shouldLog(ApiErrorResponse errorResponse, Throwable exception) {
+        return isLogged(errorResponse, exception) && tryAcquireLogLimits(errorResponse);
+    }
+
+    /**
+     * Check if an exception that resulted in the given response would be logged based on the log level and
+     * the <code>exception-logging</code>, without taking the <code>error.handling.log-limits</code> into account.
+     */
+    protected boolean isLogged(ApiErrorResponse errorResponse, Throwable exception) {
+        LogDecisions current = getLogDecisions();
+        StatusLogDecision decision = current.getStatusLogDecision(errorResponse.getHttpStatus().value());
+        if (!isEnabled(decision.logLevel())) {
+            return false;
+        }
+        return properties.getExceptionLogging() != ErrorHandlingProperties.ExceptionLogging.NO_LOGGING
+                || decision.fullStacktrace()
+                || current.fullStacktraceClasses.get(exception.getClass());
+    }
+
+    /**
+     * Take a token from the <code>error.handling.log-limits</code> that apply to the given response.
+     *
+     * @return <code>true</code> if the limits allow the exception to be logged.
+     */
+    protected boolean tryAcquireLogLimits(ApiErrorResponse errorResponse) {
+        StatusLogDecision decision = getLogDecisions().getStatusLogDecision(errorResponse.getHttpStatus().value());
+        String code = errorResponse.getCode();
+        ErrorHandlingProperties.LogLimit codeLimit = code != null ? properties.getLogLimits().getCodes().get(code) : null;
+        return logLimiter.tryAcquire(codeLimit, decision.logLimit());
+    }
+
+    /**
+     * Log the exception without checking the log limits again.
+     */
+    protected void doLogException(ApiErrorResponse errorResponse, Throwable exception) {
+        LogDecisions current = getLogDecisions();
+        StatusLogDecision decision = current.getStatusLogDecision(errorResponse.getHttpStatus().value());
+        if (!isEnabled(decision.logLevel())) {
+            return;
+        }
+        if (decision.fullStacktrace() || current.fullStacktraceClasses.get(exception.getClass())) {
+            doLogOnLogLevel(decision.logLevel(), exception, true);
         } else {
-            doLogOnLogLevel(LogLevel.ERROR, exception, includeStacktrace);
+            doStandardFallbackLogging(decision.logLevel(), exception);
+        }
+    }
+
+    public void clearCache() {
+        logDecisions = null;
+        logLimiter.clear();
+    }
+
+    /**
+     * When the properties were bound again, the log limiter is cleared as well, so it does not keep
+     * the token buckets of the old {@link ErrorHandlingProperties.LogLimit} instances.
+     */
+    private LogDecisions getLogDecisions() {
+        LogDecisions current = logDecisions;
+        if (current == null || !current.isValidFor(properties)) {
+            if (current != null) {
+                logLimiter.clear();
+            }
+            current = new LogDecisions(properties);
+            logDecisions = current;
         }
+        return current;
+    }
+
+    private StatusLogDecision computeStatusLogDecision(int status) {
+        String httpStatusValue = String.valueOf(status);
+        String statusWithLastNumberAsWildcard = getStatusWithLastNumberAsWildcard(httpStatusValue);
+        String statusWithLastTwoNumbersAsWildcard = getStatusWithLastTwoNumbersAsWildcard(httpStatusValue);
+
+        LogLevel logLevel = properties.getLogLevels().get(httpStatusValue);
+        if (logLevel == null) {
+            logLevel = properties.getLogLevels().get(statusWithLastNumberAsWildcard);
+        }
+        if (logLevel == null) {
+            logLevel = properties.getLogLevels().get(statusWithLastTwoNumbersAsWildcard);
+        }
+        if (logLevel == null) {
+            logLevel = LogLevel.ERROR;
+        }
+
+        List<String> fullStacktraceHttpStatuses = properties.getFullStacktraceHttpStatuses();
+        boolean fullStacktrace = fullStacktraceHttpStatuses.contains(httpStatusValue)
+                || fullStacktraceHttpStatuses.contains(statusWithLastNumberAsWildcard)
+                || fullStacktraceHttpStatuses.contains(statusWithLastTwoNumbersAsWildcard);
+
+        Map<String, ErrorHandlingProperties.LogLimit> httpStatusLogLimits = properties.getLogLimits().getHttpStatuses();
+        ErrorHandlingProperties.LogLimit logLimit = httpStatusLogLimits.get(httpStatusValue);
+        if (logLimit == null) {
+            logLimit = httpStatusLogLimits.get(statusWithLastNumberAsWildcard);
+        }
+        if (logLimit == null) {
+            logLimit = httpStatusLogLimits.get(statusWithLastTwoNumbersAsWildcard);
+        }
+
+        return new StatusLogDecision(logLevel, fullStacktrace, logLimit);
+    }
+
+    private static boolean isEnabled(LogLevel logLevel) {
+        return switch (logLevel) {
+            case TRACE -> LOGGER.isTraceEnabled();
+            case DEBUG -> LOGGER.isDebugEnabled();
+            case INFO -> LOGGER.isInfoEnabled();
+            case WARN -> LOGGER.isWarnEnabled();
+            case ERROR, FATAL -> LOGGER.isErrorEnabled();
+            case OFF -> false;
+        };
     }
 
     private void doLogOnLogLevel(LogLevel logLevel, Throwable exception, boolean includeStacktrace) {
+        String message = exception.getMessage();
+        if (includeStacktrace && stacktraceDeduplicator.isEnabled()) {
+            StacktraceDeduplicator.Occurrence occurrence = stacktraceDeduplicator.register(exception);
+            if (!occurrence.isFirst()) {
+                // Without the stack trace, the message is all there is to recognize the exception
+                String omittedMessage = message != null ? message : exception.getClass().getName();
+                message = omittedMessage + " [stacktrace " + occurrence.fingerprint() + " omitted, occurrence " + occurrence.count() + "]";
+                includeStacktrace = false;
+            }
+        }
         if (includeStacktrace) {
             switch (logLevel) {
-                case TRACE -> LOGGER.trace(exception.getMessage(), exception);
-                case DEBUG -> LOGGER.debug(exception.getMessage(), exception);
-                case INFO -> LOGGER.info(exception.getMessage(), exception);
-                case WARN -> LOGGER.warn(exception.getMessage(), exception);
-                case ERROR, FATAL -> LOGGER.error(exception.getMessage(), exception);
+                case TRACE -> LOGGER.trace(message, exception);
+                case DEBUG -> LOGGER.debug(message, exception);
+                case INFO -> LOGGER.info(message, exception);
+                case WARN -> LOGGER.warn(message, exception);
+                case ERROR, FATAL -> LOGGER.error(message, exception);
                 case OFF -> {
                     // no-op
                 }
             }
         } else {
             switch (logLevel) {
-                case TRACE -> LOGGER.trace(exception.getMessage());
-                case DEBUG -> LOGGER.debug(exception.getMessage());
-                case INFO -> LOGGER.info(exception.getMessage());
-                case WARN -> LOGGER.warn(exception.getMessage());
-                case ERROR, FATAL -> LOGGER.error(exception.getMessage());
+                case TRACE -> LOGGER.trace(message);
+                case DEBUG -> LOGGER.debug(message);
+                case INFO -> LOGGER.info(message);
+                case WARN -> LOGGER.warn(message);
+                case ERROR, FATAL -> LOGGER.error(message);
                 case OFF -> {
                     // no-op
                 }
@@ -66,29 +202,13 @@ public class LoggingService {
         }
     }
 
-    private void doStandardFallbackLogging(HttpStatusCode httpStatus, Throwable exception) {
+    private void doStandardFallbackLogging(LogLevel logLevel, Throwable exception) {
         switch (properties.getExceptionLogging()) {
-            case WITH_STACKTRACE -> logAccordingToRequestedLogLevel(httpStatus, exception, true);
-            case MESSAGE_ONLY -> logAccordingToRequestedLogLevel(httpStatus, exception, false);
+            case WITH_STACKTRACE -> doLogOnLogLevel(logLevel, exception, true);
+            case MESSAGE_ONLY -> doLogOnLogLevel(logLevel, exception, false);
         }
     }
 
-    private boolean logFullStacktraceIfNeeded(HttpStatusCode httpStatus, Throwable exception) {
-        String httpStatusValue = String.valueOf(httpStatus.value());
-        if (properties.getFullStacktraceHttpStatuses().contains(httpStatusValue)) {
-            logAccordingToRequestedLogLevel(httpStatus, exception, true);
-            return true;
-        } else if (properties.getFullStacktraceHttpStatuses().contains(getStatusWithLastNumberAsWildcard(httpStatusValue))) {
-            logAccordingToRequestedLogLevel(httpStatus, exception, true);
-            return true;
-        } else if (properties.getFullStacktraceHttpStatuses().contains(getStatusWithLastTwoNumbersAsWildcard(httpStatusValue))) {
-            logAccordingToRequestedLogLevel(httpStatus, exception, true);
-            return true;
-        }
-
-        return false;
-    }
-
     private static String getStatusWithLastTwoNumbersAsWildcard(String httpStatusValue) {
         return httpStatusValue.replaceFirst("\\d\\d$", "xx");
     }
@@ -96,4 +216,61 @@ public class LoggingService {
     private static String getStatusWithLastNumberAsWildcard(String httpStatusValue) {
         return httpStatusValue.replaceFirst("\\d$", "x");
     }
+
+    private record StatusLogDecision(LogLevel logLevel, boolean fullStacktrace, ErrorHandlingProperties.LogLimit logLimit) {
+    }
+
+    /**
+     * The precomputed log decisions, together with the property values they were computed from.
+     */
+    private class LogDecisions {
+        private final Map<String, LogLevel> logLevels;
+        private final List<String> fullStacktraceHttpStatuses;
+        private final Map<String, ErrorHandlingProperties.LogLimit> httpStatusLogLimits;
+        private final Map<String, ErrorHandlingProperties.LogLimit> codeLogLimits;
+        private final List<Class<? extends Throwable>> fullStacktraceClassList;
+        private final boolean fullStacktraceClassesIncludeSubclasses;
+        private final StatusLogDecision[] statusDecisions = new StatusLogDecision[MAX_TABLE_STATUS - MIN_TABLE_STATUS + 1];
+        private final ClassValue<Boolean> fullStacktraceClasses;
+
+        private LogDecisions(ErrorHandlingProperties properties) {
+            this.logLevels = properties.getLogLevels();
+            this.fullStacktraceHttpStatuses = properties.getFullStacktraceHttpStatuses();
+            this.httpStatusLogLimits = properties.getLogLimits().getHttpStatuses();
+            this.codeLogLimits = properties.getLogLimits().getCodes();
+            this.fullStacktraceClassList = properties.getFullStacktraceClasses();
+            this.fullStacktraceClassesIncludeSubclasses = properties.isFullStacktraceClassesIncludeSubclasses();
+            for (int status = MIN_TABLE_STATUS; status <= MAX_TABLE_STATUS; status++) {
+                statusDecisions[status - MIN_TABLE_STATUS] = computeStatusLogDecision(status);
+            }
+
+            Set<Class<? extends Throwable>> classes = Set.copyOf(fullStacktraceClassList);
+            this.fullStacktraceClasses = new ClassValue<>() {
+                @Override
+                protected Boolean computeValue(Class<?> exceptionClass) {
+                    if (classes.contains(exceptionClass)) {
+                        return true;
+                    }
+                    return fullStacktraceClassesIncludeSubclasses
+                            && classes.stream().anyMatch(fullStacktraceClass -> fullStacktraceClass.isAssignableFrom(exceptionClass));
+                }
+            };
+        }
+
+        private StatusLogDecision getStatusLogDecision(int status) {
+            if (status < MIN_TABLE_STATUS || status > MAX_TABLE_STATUS) {
+                return computeStatusLogDecision(status);
+            }
+            return statusDecisions[status - MIN_TABLE_STATUS];
+        }
+
+        private boolean isValidFor(ErrorHandlingProperties properties) {
+            return logLevels == properties.getLogLevels()
+                    && fullStacktraceHttpStatuses == properties.getFullStacktraceHttpStatuses()
+                    && httpStatusLogLimits == properties.getLogLimits().getHttpStatuses()
+                    && codeLogLimits == properties.getLogLimits().getCodes()
+                    && fullStacktraceClassList == properties.getFullStacktraceClasses()
+                    && fullStacktraceClassesIncludeSubclasses == properties.isFullStacktraceClassesIncludeSubclasses();
+        }
+    }
 }
@@ -0,0 +1,98 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of how many times an exception with the same stack trace fingerprint was logged
+ * within the time window of the <code>error.handling.stacktrace-deduplication</code> properties.
+ * <p>
+ * The fingerprint is a hash of the exception class and the top <code>frame-count</code> frames of its stack trace.
+ * The message is not part of the fingerprint, so exceptions that only differ in the message
+ * (e.g. because it contains an id) share the same fingerprint.
+ * <p>
+ * At most <code>max-fingerprints</code> fingerprints are kept. When a new fingerprint is seen, the least recently
+ * seen fingerprint is forgotten.
+ */
+public class StacktraceDeduplicator {
+    private final ErrorHandlingProperties properties;
+    private final Clock clock;
+    private final Map<String, Occurrence> occurrences = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Occurrence> eldest) {
+            return size() > properties.getStacktraceDeduplication().getMaxFingerprints();
+        }
+    };
+
+    public StacktraceDeduplicator(ErrorHandlingProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    public StacktraceDeduplicator(ErrorHandlingProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return properties.getStacktraceDeduplication().isEnabled();
+    }
+
+    /**
+     * Register that the given exception is logged.
+     *
+     * @return the occurrence of the fingerprint of the exception in the current time window.
+     * The count is <code>1</code> for the first occurrence, which should be logged with the full stack trace.
+     */
+    public Occurrence register(Throwable exception) {
+        ErrorHandlingProperties.StacktraceDeduplication deduplication = properties.getStacktraceDeduplication();
+        String fingerprint = fingerprint(exception, deduplication.getFrameCount());
+        long now = clock.millis();
+        long windowMillis = deduplication.getWindow().toMillis();
+        synchronized (occurrences) {
+            Occurrence previous = occurrences.get(fingerprint);
+            Occurrence occurrence;
+            if (previous == null || now - previous.windowStart() >= windowMillis) {
+                occurrence = new Occurrence(fingerprint, now, 1);
+            } else {
+                occurrence = new Occurrence(fingerprint, previous.windowStart(), previous.count() + 1);
+            }
+            occurrences.put(fingerprint, occurrence);
+            return occurrence;
+        }
+    }
+
+    public void clear() {
+        synchronized (occurrences) {
+            occurrences.clear();
+        }
+    }
+
+    public static String fingerprint(Throwable exception, int frameCount) {
+        long hash = mix(1125899906842597L, exception.getClass().getName().hashCode());
+        StackTraceElement[] stackTrace = exception.getStackTrace();
+        int frames = Math.min(frameCount, stackTrace.length);
+        for (int i = 0; i < frames; i++) {
+            StackTraceElement element = stackTrace[i];
+            hash = mix(hash, element.getClassName().hashCode());
+            hash = mix(hash, element.getMethodName().hashCode());
+            hash = mix(hash, element.getLineNumber());
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001b3L;
+    }
+
+    /**
+     * @param fingerprint the fingerprint of the exception
+     * @param windowStart the time (in milliseconds since the epoch) of the first occurrence in the current window
+     * @param count       the number of occurrences in the current window
+     */
+    public record Occurrence(String fingerprint, long windowStart, long count) {
+        public boolean isFirst() {
+            return count == 1;
+        }
+    }
+}
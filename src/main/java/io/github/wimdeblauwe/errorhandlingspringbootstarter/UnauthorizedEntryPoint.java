@@ -5,16 +5,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet.ServletApiErrorResponseWriter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 
 /**
  * Use this {@link AuthenticationEntryPoint} implementation if you want to have a consistent response
@@ -52,22 +51,31 @@ public class UnauthorizedEntryPoint implements AuthenticationEntryPoint {
     protected final ErrorCodeMapper errorCodeMapper;
     protected final ErrorMessageMapper errorMessageMapper;
     protected final ObjectMapper objectMapper;
+    protected final ApiErrorResponseCache responseCache;
+    protected final ServletApiErrorResponseWriter responseWriter;
 
     public UnauthorizedEntryPoint(HttpStatusMapper httpStatusMapper, ErrorCodeMapper errorCodeMapper, ErrorMessageMapper errorMessageMapper, ObjectMapper objectMapper) {
+        this(httpStatusMapper, errorCodeMapper, errorMessageMapper, objectMapper, null);
+    }
+
+    /**
+     * @param responseCache the cache to get the JSON response from, or <code>null</code> to always serialize the response.
+     */
+    public UnauthorizedEntryPoint(HttpStatusMapper httpStatusMapper, ErrorCodeMapper errorCodeMapper, ErrorMessageMapper errorMessageMapper, ObjectMapper objectMapper,
+                                  ApiErrorResponseCache responseCache) {
         this.httpStatusMapper = httpStatusMapper;
         this.errorCodeMapper = errorCodeMapper;
         this.errorMessageMapper = errorMessageMapper;
         this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
+        this.responseWriter = new ServletApiErrorResponseWriter(objectMapper, responseCache);
     }
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws JsonProcessingException, IOException {
         ApiErrorResponse errorResponse = createResponse(authException);
 
-        response.setStatus(errorResponse.getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding(StandardCharsets.UTF_8.toString());
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        responseWriter.write(response, errorResponse);
     }
 
     public ApiErrorResponse createResponse(AuthenticationException exception) {
@@ -0,0 +1,135 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.aot;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ResponseErrorCode;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ResponseErrorProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Registers the runtime hints that are needed to handle the exception classes of the application in a native image.
+ * <p>
+ * The auto-configuration packages are scanned for exception classes that use {@link ResponseErrorCode}, {@link ResponseStatus}
+ * (if spring-web is present) or {@link ResponseErrorProperty}. Exception classes in other packages, like those of a shared
+ * library, are not found and need their own hints.
+ * <p>
+ * Only reflection hints are contributed. The status, code, message and properties of the exceptions are not precomputed
+ * into generated code, but are resolved from the annotations at runtime, as on the JVM.
+ */
+public class ErrorHandlingBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ErrorHandlingBeanFactoryInitializationAotProcessor.class);
+    // spring-web is an optional dependency
+    private static final boolean RESPONSE_STATUS_PRESENT = ClassUtils.isPresent("org.springframework.web.bind.annotation.ResponseStatus",
+                                                                                ErrorHandlingBeanFactoryInitializationAotProcessor.class.getClassLoader());
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        Set<Class<?>> exceptionClasses = findExceptionClasses(beanFactory, classLoader);
+        if (exceptionClasses.isEmpty()) {
+            return null;
+        }
+        LOGGER.debug("Registering runtime hints for {} exception classes", exceptionClasses.size());
+
+        return (generationContext, beanFactoryInitializationCode) -> {
+            ReflectionHints reflectionHints = generationContext.getRuntimeHints().reflection();
+            for (Class<?> exceptionClass : exceptionClasses) {
+                registerExceptionHints(reflectionHints, exceptionClass);
+            }
+        };
+    }
+
+    private Set<Class<?>> findExceptionClasses(ConfigurableListableBeanFactory beanFactory, ClassLoader classLoader) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        if (!AutoConfigurationPackages.has(beanFactory)) {
+            return result;
+        }
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent() && !beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Throwable.class));
+        if (classLoader != null) {
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        }
+        for (String basePackage : AutoConfigurationPackages.get(beanFactory)) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                Class<?> exceptionClass = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                if (usesErrorHandlingAnnotations(exceptionClass)) {
+                    result.add(exceptionClass);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean usesErrorHandlingAnnotations(Class<?> exceptionClass) {
+        for (Class<?> type = exceptionClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (AnnotatedElementUtils.hasAnnotation(type, ResponseErrorCode.class)
+                    || (RESPONSE_STATUS_PRESENT && AnnotatedElementUtils.hasAnnotation(type, ResponseStatus.class))) {
+                return true;
+            }
+        }
+        List<Member> annotatedMembers = new ArrayList<>();
+        ReflectionUtils.doWithFields(exceptionClass, annotatedMembers::add, field -> field.isAnnotationPresent(ResponseErrorProperty.class));
+        ReflectionUtils.doWithMethods(exceptionClass, annotatedMembers::add, method -> method.isAnnotationPresent(ResponseErrorProperty.class));
+        return !annotatedMembers.isEmpty();
+    }
+
+    /**
+     * The mappers read the annotations of the exception class and its superclasses, and the fallback handler
+     * reads the declared fields and methods of all those classes.
+     */
+    private void registerExceptionHints(ReflectionHints reflectionHints, Class<?> exceptionClass) {
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        for (Class<?> type = exceptionClass; type != null && !type.getName().startsWith("java."); type = type.getSuperclass()) {
+            reflectionHints.registerType(type,
+                                         MemberCategory.DECLARED_FIELDS,
+                                         MemberCategory.INVOKE_DECLARED_METHODS,
+                                         MemberCategory.INVOKE_PUBLIC_METHODS);
+            ReflectionUtils.doWithLocalFields(type, field -> {
+                if (field.isAnnotationPresent(ResponseErrorProperty.class)) {
+                    registerBindingHints(bindingRegistrar, reflectionHints, field.getGenericType());
+                }
+            });
+            ReflectionUtils.doWithLocalMethods(type, method -> {
+                if (method.isAnnotationPresent(ResponseErrorProperty.class)) {
+                    registerBindingHints(bindingRegistrar, reflectionHints, method.getGenericReturnType());
+                }
+            });
+        }
+    }
+
+    /**
+     * The values of the properties are serialized with Jackson.
+     */
+    private void registerBindingHints(BindingReflectionHintsRegistrar bindingRegistrar, ReflectionHints reflectionHints, Type type) {
+        if (!(type instanceof Class<?> clazz) || !(clazz.isPrimitive() || clazz.getName().startsWith("java."))) {
+            bindingRegistrar.registerReflectionHints(reflectionHints, type);
+        }
+    }
+}
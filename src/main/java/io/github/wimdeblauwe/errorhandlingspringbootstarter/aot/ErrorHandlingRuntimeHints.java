@@ -0,0 +1,20 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.aot;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseSerializer;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * The runtime hints for the classes and resources of the library itself.
+ * The hints for the exception classes of the application are registered by {@link ErrorHandlingBeanFactoryInitializationAotProcessor}.
+ */
+public class ErrorHandlingRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // The JsonComponentModule resolves the serialized type from the generic superclass
+        hints.reflection().registerType(ApiErrorResponseSerializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("error-handling-defaults.properties");
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for each exception that is handled by the {@link ErrorHandlingFacade}.
+ * The duration of the event is the total time of {@link ErrorHandlingFacade#handle(Throwable)}.
+ * <p>
+ * The event is disabled by default, enable it in the JFR settings with
+ * <code>io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandled#enabled=true</code>.
+ */
+@Name("io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandled")
+@Label("Error Handled")
+@Category({"Error Handling Spring Boot Starter"})
+@Description("An exception was converted into an error response")
+@Enabled(false)
+@StackTrace(false)
+public class ErrorHandledEvent extends Event {
+    @Label("Exception Class")
+    public String exceptionClass;
+
+    @Label("Handler")
+    @Description("The class of the exception handler that created the response")
+    public String handler;
+
+    @Label("Fallback")
+    @Description("Whether the fallback exception handler created the response")
+    public boolean fallback;
+
+    @Label("HTTP Status")
+    public int status;
+
+    @Label("Code")
+    public String code;
+
+    @Label("Customizer Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long customizerDuration;
+
+    @Label("Logging Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long loggingDuration;
+}
@@ -0,0 +1,35 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for each error response that is serialized by the library itself
+ * (in filters, Spring Security handlers and the WebFlux direct write). Responses that are serialized by the
+ * Spring message converters are not recorded.
+ * <p>
+ * The event is disabled by default, enable it in the JFR settings with
+ * <code>io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorResponseSerialized#enabled=true</code>.
+ */
+@Name("io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorResponseSerialized")
+@Label("Error Response Serialized")
+@Category({"Error Handling Spring Boot Starter"})
+@Description("An error response was serialized to JSON")
+@Enabled(false)
+@StackTrace(false)
+public class ErrorResponseSerializedEvent extends Event {
+    @Label("HTTP Status")
+    public int status;
+
+    @Label("Code")
+    public String code;
+
+    @Label("Cached")
+    @Description("Whether the JSON was taken from the response cache")
+    public boolean cached;
+}
@@ -0,0 +1,56 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+import java.util.Locale;
+
+/**
+ * {@link ErrorCodeStrategy} that converts the simple name of the exception class to all caps,
+ * with an underscore between the words and without the <code>Exception</code> suffix.
+ * For example: <code>UserNotFoundException</code> becomes <code>USER_NOT_FOUND</code>.
+ * <p>
+ * The error code is computed only once per exception class.
+ */
+public class AllCapsErrorCodeStrategy implements ErrorCodeStrategy {
+    private static final String EXCEPTION_SUFFIX = "Exception";
+
+    private final ClassValue<String> errorCodes = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> exceptionClass) {
+            return convertToAllCaps(exceptionClass.getSimpleName()).intern();
+        }
+    };
+
+    @Override
+    public String getErrorCode(Class<? extends Throwable> exceptionClass) {
+        return errorCodes.get(exceptionClass);
+    }
+
+    static String convertToAllCaps(String exceptionClassName) {
+        String name = exceptionClassName.endsWith(EXCEPTION_SUFFIX)
+                ? exceptionClassName.substring(0, exceptionClassName.length() - EXCEPTION_SUFFIX.length())
+                : exceptionClassName;
+        StringBuilder result = new StringBuilder(name.length() + 4);
+        int index = 0;
+        while (index < name.length()) {
+            char current = name.charAt(index);
+            result.append(current);
+            index++;
+            // Put an underscore between a lowercase letter and the run of uppercase letters that follows it
+            if (isLowerCase(current) && index < name.length() && isUpperCase(name.charAt(index))) {
+                result.append('_');
+                while (index < name.length() && isUpperCase(name.charAt(index))) {
+                    result.append(name.charAt(index));
+                    index++;
+                }
+            }
+        }
+        return result.toString().toUpperCase(Locale.ENGLISH);
+    }
+
+    private static boolean isLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isUpperCase(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -1,10 +1,6 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
 
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
-import io.github.wimdeblauwe.errorhandlingspringbootstarter.ResponseErrorCode;
-import org.springframework.core.annotation.AnnotationUtils;
-
-import java.util.Locale;
 
 /**
  * This class contains the logic for getting the matching error code for the given {@link Throwable}.
@@ -12,24 +8,38 @@ import java.util.Locale;
 public class ErrorCodeMapper {
 
     private final ErrorHandlingProperties properties;
+    private final ErrorMetadataResolver errorMetadataResolver;
+    private final ErrorCodeStrategy customErrorCodeStrategy;
+    private final ErrorCodeStrategy fullQualifiedNameErrorCodeStrategy = new FullQualifiedNameErrorCodeStrategy();
+    private final ErrorCodeStrategy allCapsErrorCodeStrategy = new AllCapsErrorCodeStrategy();
 
     public ErrorCodeMapper(ErrorHandlingProperties properties) {
+        this(properties, new ErrorMetadataResolver(properties));
+    }
+
+    public ErrorCodeMapper(ErrorHandlingProperties properties,
+                           ErrorMetadataResolver errorMetadataResolver) {
+        this(properties, errorMetadataResolver, null);
+    }
+
+    /**
+     * @param customErrorCodeStrategy the strategy to use for exceptions without a configured error code,
+     *                                or <code>null</code> to use the <code>error.handling.default-error-code-strategy</code> property.
+     */
+    public ErrorCodeMapper(ErrorHandlingProperties properties,
+                           ErrorMetadataResolver errorMetadataResolver,
+                           ErrorCodeStrategy customErrorCodeStrategy) {
         this.properties = properties;
+        this.errorMetadataResolver = errorMetadataResolver;
+        this.customErrorCodeStrategy = customErrorCodeStrategy;
     }
 
     public String getErrorCode(Throwable exception) {
-        String code = getErrorCodeFromPropertiesOrAnnotation(exception.getClass());
+        String code = errorMetadataResolver.resolve(exception.getClass()).code();
         if (code != null) {
             return code;
         }
-        switch (properties.getDefaultErrorCodeStrategy()) {
-            case FULL_QUALIFIED_NAME:
-                return exception.getClass().getName();
-            case ALL_CAPS:
-                return convertToAllCaps(exception.getClass().getSimpleName());
-            default:
-                throw new IllegalArgumentException("Unknown default error code strategy: " + properties.getDefaultErrorCodeStrategy());
-        }
+        return getErrorCodeStrategy().getErrorCode(exception.getClass());
     }
 
     public String getErrorCode(String fieldSpecificErrorCode, String errorCode) {
@@ -48,29 +58,17 @@ public class ErrorCodeMapper {
         return errorCode;
     }
 
-    private String convertToAllCaps(String exceptionClassName) {
-        String result = exceptionClassName.replaceFirst("Exception$", "");
-        result = result.replaceAll("([a-z])([A-Z]+)", "$1_$2").toUpperCase(Locale.ENGLISH);
-        return result;
-    }
-
-    private String getErrorCodeFromPropertiesOrAnnotation(Class<?> exceptionClass) {
-        if (exceptionClass == null) {
-            return null;
-        }
-        String exceptionClassName = exceptionClass.getName();
-        if (properties.getCodes().containsKey(exceptionClassName)) {
-            return properties.getCodes().get(exceptionClassName);
+    private ErrorCodeStrategy getErrorCodeStrategy() {
+        if (customErrorCodeStrategy != null) {
+            return customErrorCodeStrategy;
         }
-        ResponseErrorCode errorCodeAnnotation = AnnotationUtils.getAnnotation(exceptionClass, ResponseErrorCode.class);
-        if (errorCodeAnnotation != null) {
-            return errorCodeAnnotation.value();
-        }
-
-        if (properties.isSearchSuperClassHierarchy()) {
-            return getErrorCodeFromPropertiesOrAnnotation(exceptionClass.getSuperclass());
-        } else {
-            return null;
+        switch (properties.getDefaultErrorCodeStrategy()) {
+            case FULL_QUALIFIED_NAME:
+                return fullQualifiedNameErrorCodeStrategy;
+            case ALL_CAPS:
+                return allCapsErrorCodeStrategy;
+            default:
+                throw new IllegalArgumentException("Unknown default error code strategy: " + properties.getDefaultErrorCodeStrategy());
         }
     }
 
@@ -0,0 +1,21 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+/**
+ * Strategy to derive an error code from the class of an exception when there is no error code configured
+ * for it via properties or via {@link io.github.wimdeblauwe.errorhandlingspringbootstarter.ResponseErrorCode}.
+ * <p>
+ * Declare a bean of this type to use a custom convention instead of the one selected via
+ * the <code>error.handling.default-error-code-strategy</code> property.
+ *
+ * @see AllCapsErrorCodeStrategy
+ * @see FullQualifiedNameErrorCodeStrategy
+ */
+public interface ErrorCodeStrategy {
+    /**
+     * Get the error code for the given exception class.
+     *
+     * @param exceptionClass the class of the Throwable that was thrown
+     * @return the non-null error code
+     */
+    String getErrorCode(Class<? extends Throwable> exceptionClass);
+}
@@ -11,13 +11,20 @@ import static org.springframework.util.StringUtils.hasText;
  */
 public class ErrorMessageMapper {
     private final ErrorHandlingProperties properties;
+    private final ErrorMetadataResolver errorMetadataResolver;
 
     public ErrorMessageMapper(ErrorHandlingProperties properties) {
+        this(properties, new ErrorMetadataResolver(properties));
+    }
+
+    public ErrorMessageMapper(ErrorHandlingProperties properties,
+                              ErrorMetadataResolver errorMetadataResolver) {
         this.properties = properties;
+        this.errorMetadataResolver = errorMetadataResolver;
     }
 
     public String getErrorMessage(Throwable exception) {
-        String code = getErrorMessageFromProperties(exception.getClass());
+        String code = errorMetadataResolver.resolve(exception.getClass()).message();
         if (hasText(code)) {
             return code;
         }
@@ -25,7 +32,7 @@ public class ErrorMessageMapper {
     }
 
     public Optional<String> getErrorMessageIfConfiguredInProperties(Throwable exception) {
-        return Optional.ofNullable(getErrorMessageFromProperties(exception.getClass()));
+        return Optional.ofNullable(errorMetadataResolver.resolve(exception.getClass()).message());
     }
 
     public String getErrorMessage(String fieldSpecificCode, String code, String defaultMessage) {
@@ -43,19 +50,4 @@ public class ErrorMessageMapper {
 
         return defaultMessage;
     }
-
-    private String getErrorMessageFromProperties(Class<?> exceptionClass) {
-        if (exceptionClass == null) {
-            return null;
-        }
-        String exceptionClassName = exceptionClass.getName();
-        if (properties.getMessages().containsKey(exceptionClassName)) {
-            return properties.getMessages().get(exceptionClassName);
-        }
-        if (properties.isSearchSuperClassHierarchy()) {
-            return getErrorMessageFromProperties(exceptionClass.getSuperclass());
-        } else {
-            return null;
-        }
-    }
 }
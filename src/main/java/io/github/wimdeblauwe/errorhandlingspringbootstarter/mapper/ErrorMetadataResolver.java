@@ -0,0 +1,129 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ResponseErrorCode;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.Map;
+
+/**
+ * This class resolves the HTTP status, error code and error message that are configured for an exception class
+ * via the {@link ErrorHandlingProperties} or via the {@link ResponseStatus} and {@link ResponseErrorCode} annotations.
+ * <p>
+ * The result is computed once per exception class and cached. The cache is dropped automatically when the
+ * <code>http-statuses</code>, <code>codes</code> or <code>messages</code> maps or the <code>search-super-class-hierarchy</code>
+ * setting of the properties are replaced (which is what happens when the properties are bound again).
+ * Use {@link #clearCache()} if those maps are modified in place after errors have been handled.
+ */
+public class ErrorMetadataResolver {
+    private final ErrorHandlingProperties properties;
+    private volatile Cache cache;
+
+    public ErrorMetadataResolver(ErrorHandlingProperties properties) {
+        this.properties = properties;
+    }
+
+    public ResolvedErrorMetadata resolve(Class<?> exceptionClass) {
+        Cache current = cache;
+        if (current == null || !current.isValidFor(properties)) {
+            current = new Cache(properties);
+            cache = current;
+        }
+        return current.metadata.get(exceptionClass);
+    }
+
+    public void clearCache() {
+        cache = null;
+    }
+
+    private HttpStatusCode getHttpStatusFromPropertiesOrAnnotation(Class<?> exceptionClass) {
+        if (exceptionClass == null) {
+            return null;
+        }
+        String exceptionClassName = exceptionClass.getName();
+        if (properties.getHttpStatuses().containsKey(exceptionClassName)) {
+            return properties.getHttpStatuses().get(exceptionClassName);
+        }
+
+        ResponseStatus responseStatus = AnnotationUtils.getAnnotation(exceptionClass, ResponseStatus.class);
+        if (responseStatus != null) {
+            return responseStatus.value();
+        }
+
+        if (properties.isSearchSuperClassHierarchy()) {
+            return getHttpStatusFromPropertiesOrAnnotation(exceptionClass.getSuperclass());
+        } else {
+            return null;
+        }
+    }
+
+    private String getErrorCodeFromPropertiesOrAnnotation(Class<?> exceptionClass) {
+        if (exceptionClass == null) {
+            return null;
+        }
+        String exceptionClassName = exceptionClass.getName();
+        if (properties.getCodes().containsKey(exceptionClassName)) {
+            return properties.getCodes().get(exceptionClassName);
+        }
+        ResponseErrorCode errorCodeAnnotation = AnnotationUtils.getAnnotation(exceptionClass, ResponseErrorCode.class);
+        if (errorCodeAnnotation != null) {
+            return errorCodeAnnotation.value();
+        }
+
+        if (properties.isSearchSuperClassHierarchy()) {
+            return getErrorCodeFromPropertiesOrAnnotation(exceptionClass.getSuperclass());
+        } else {
+            return null;
+        }
+    }
+
+    private String getErrorMessageFromProperties(Class<?> exceptionClass) {
+        if (exceptionClass == null) {
+            return null;
+        }
+        String exceptionClassName = exceptionClass.getName();
+        if (properties.getMessages().containsKey(exceptionClassName)) {
+            return properties.getMessages().get(exceptionClassName);
+        }
+        if (properties.isSearchSuperClassHierarchy()) {
+            return getErrorMessageFromProperties(exceptionClass.getSuperclass());
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * The cached metadata, together with the property values it was computed from.
+     */
+    private class Cache {
+        private final Map<String, HttpStatus> httpStatuses;
+        private final Map<String, String> codes;
+        private final Map<String, String> messages;
+        private final boolean searchSuperClassHierarchy;
+        private final ClassValue<ResolvedErrorMetadata> metadata = new ClassValue<>() {
+            @Override
+            protected ResolvedErrorMetadata computeValue(Class<?> exceptionClass) {
+                return new ResolvedErrorMetadata(getHttpStatusFromPropertiesOrAnnotation(exceptionClass),
+                                                 getErrorCodeFromPropertiesOrAnnotation(exceptionClass),
+                                                 getErrorMessageFromProperties(exceptionClass));
+            }
+        };
+
+        private Cache(ErrorHandlingProperties properties) {
+            this.httpStatuses = properties.getHttpStatuses();
+            this.codes = properties.getCodes();
+            this.messages = properties.getMessages();
+            this.searchSuperClassHierarchy = properties.isSearchSuperClassHierarchy();
+        }
+
+        private boolean isValidFor(ErrorHandlingProperties properties) {
+            return httpStatuses == properties.getHttpStatuses()
+                    && codes == properties.getCodes()
+                    && messages == properties.getMessages()
+                    && searchSuperClassHierarchy == properties.isSearchSuperClassHierarchy();
+        }
+    }
+}
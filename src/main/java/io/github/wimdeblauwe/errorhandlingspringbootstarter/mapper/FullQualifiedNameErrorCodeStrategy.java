@@ -0,0 +1,12 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+/**
+ * {@link ErrorCodeStrategy} that uses the full qualified name of the exception class as error code.
+ * For example: <code>com.company.application.user.UserNotFoundException</code>.
+ */
+public class FullQualifiedNameErrorCodeStrategy implements ErrorCodeStrategy {
+    @Override
+    public String getErrorCode(Class<? extends Throwable> exceptionClass) {
+        return exceptionClass.getName();
+    }
+}
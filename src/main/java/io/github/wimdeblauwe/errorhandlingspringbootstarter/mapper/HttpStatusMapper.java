@@ -1,10 +1,8 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
 
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
-import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.util.List;
 
@@ -12,13 +10,19 @@ import java.util.List;
  * This class contains the logic for getting the matching HTTP Status for the given {@link Throwable}.
  */
 public class HttpStatusMapper {
-    private final ErrorHandlingProperties properties;
     private final List<HttpResponseStatusFromExceptionMapper> httpResponseStatusFromExceptionMapperList;
+    private final ErrorMetadataResolver errorMetadataResolver;
 
     public HttpStatusMapper(ErrorHandlingProperties properties,
                             List<HttpResponseStatusFromExceptionMapper> httpResponseStatusFromExceptionMapperList) {
-        this.properties = properties;
+        this(properties, httpResponseStatusFromExceptionMapperList, new ErrorMetadataResolver(properties));
+    }
+
+    public HttpStatusMapper(ErrorHandlingProperties properties,
+                            List<HttpResponseStatusFromExceptionMapper> httpResponseStatusFromExceptionMapperList,
+                            ErrorMetadataResolver errorMetadataResolver) {
         this.httpResponseStatusFromExceptionMapperList = httpResponseStatusFromExceptionMapperList;
+        this.errorMetadataResolver = errorMetadataResolver;
     }
 
     public HttpStatusCode getHttpStatus(Throwable exception) {
@@ -26,7 +30,7 @@ public class HttpStatusMapper {
     }
 
     public HttpStatusCode getHttpStatus(Throwable exception, HttpStatus defaultHttpStatus) {
-        HttpStatusCode status = getHttpStatusFromPropertiesOrAnnotation(exception.getClass());
+        HttpStatusCode status = errorMetadataResolver.resolve(exception.getClass()).httpStatus();
         if (status != null) {
             return status;
         }
@@ -39,26 +43,4 @@ public class HttpStatusMapper {
 
         return defaultHttpStatus;
     }
-
-    private HttpStatusCode getHttpStatusFromPropertiesOrAnnotation(Class<?> exceptionClass) {
-        if (exceptionClass == null) {
-            return null;
-        }
-        String exceptionClassName = exceptionClass.getName();
-        if (properties.getHttpStatuses().containsKey(exceptionClassName)) {
-            return properties.getHttpStatuses().get(exceptionClassName);
-        }
-
-        ResponseStatus responseStatus = AnnotationUtils.getAnnotation(exceptionClass, ResponseStatus.class);
-        if (responseStatus != null) {
-            return responseStatus.value();
-        }
-
-        if (properties.isSearchSuperClassHierarchy()) {
-            return getHttpStatusFromPropertiesOrAnnotation(exceptionClass.getSuperclass());
-        } else {
-            return null;
-        }
-    }
-
 }
@@ -0,0 +1,15 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * The HTTP status, error code and error message that are configured for an exception class via properties
+ * or annotations. Each of them is <code>null</code> if nothing is configured for the exception class.
+ *
+ * @param httpStatus the configured HTTP status, or <code>null</code>
+ * @param code       the configured error code, or <code>null</code>
+ * @param message    the configured error message, or <code>null</code>
+ * @see ErrorMetadataResolver
+ */
+public record ResolvedErrorMetadata(HttpStatusCode httpStatus, String code, String message) {
+}
@@ -0,0 +1,39 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.metrics;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.AsyncLoggingService;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.LoggingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration"
+})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean(MeterRegistry.class)
+@EnableConfigurationProperties(ErrorHandlingProperties.class)
+@ConditionalOnProperty(value = "error.handling.enabled", matchIfMissing = true)
+public class ErrorHandlingMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(value = "error.handling.metrics.enabled", havingValue = "true")
+    public MicrometerErrorHandlingListener micrometerErrorHandlingListener(MeterRegistry meterRegistry,
+                                                                           ErrorHandlingProperties properties,
+                                                                           ObjectProvider<ApiErrorResponseCache> responseCache,
+                                                                           ObjectProvider<LoggingService> loggingService) {
+        return new MicrometerErrorHandlingListener(meterRegistry,
+                                                   properties,
+                                                   responseCache.getIfAvailable(),
+                                                   loggingService.getIfAvailable() instanceof AsyncLoggingService asyncLoggingService ? asyncLoggingService : null);
+    }
+}
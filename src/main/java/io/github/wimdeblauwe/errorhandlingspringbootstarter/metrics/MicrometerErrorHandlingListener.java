@@ -0,0 +1,235 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.metrics;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.AsyncLoggingService;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingEvent;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingListener;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records Micrometer metrics for the handled exceptions:
+ * <ul>
+ *     <li><code>error.handling.errors</code>: counter tagged with the <code>status</code>, <code>code</code>,
+ *     <code>exception</code> and <code>handler</code>.</li>
+ *     <li><code>error.handling.duration</code>: timer of the time it took to handle the exception,
+ *     tagged with the <code>status</code> and <code>handler</code>. Serializing the response is not included, as that
+ *     happens after the listener is called (by the HTTP message converters in a Spring MVC application).</li>
+ *     <li><code>error.handling.response-cache.gets</code>: function counter of the lookups in the
+ *     {@link ApiErrorResponseCache}, tagged with the <code>result</code> (<code>hit</code> or <code>miss</code>).</li>
+ *     <li><code>error.handling.response-cache.size</code>: gauge of the number of responses in the cache.</li>
+ *     <li><code>error.handling.async-logging.dropped</code>: function counter of the log events that the
+ *     {@link AsyncLoggingService} dropped because its queue was full.</li>
+ *     <li><code>error.handling.async-logging.queue-size</code>: gauge of the number of log events waiting to be logged.</li>
+ * </ul>
+ * To keep the number of tag values bounded, codes that are not in <code>error.handling.metrics.allowed-codes</code>
+ * (or all codes after the first <code>error.handling.metrics.max-codes</code> codes if no codes are configured)
+ * are recorded as <code>OTHER</code>, together with their exception class. For each code, the exception classes after
+ * the first <code>error.handling.metrics.max-exceptions-per-code</code> are recorded with <code>OTHER</code> as exception.
+ */
+public class MicrometerErrorHandlingListener implements ErrorHandlingListener {
+    public static final String ERRORS_METRIC = "error.handling.errors";
+    public static final String DURATION_METRIC = "error.handling.duration";
+    public static final String RESPONSE_CACHE_GETS_METRIC = "error.handling.response-cache.gets";
+    public static final String RESPONSE_CACHE_SIZE_METRIC = "error.handling.response-cache.size";
+    public static final String ASYNC_LOGGING_DROPPED_METRIC = "error.handling.async-logging.dropped";
+    public static final String ASYNC_LOGGING_QUEUE_SIZE_METRIC = "error.handling.async-logging.queue-size";
+    static final String OTHER = "OTHER";
+    static final String FALLBACK_HANDLER = "fallback";
+    // HttpStatusCode only allows 3 digit status codes
+    private static final int MAX_STATUS = 999;
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> allowedCodes;
+    private final int maxCodes;
+    private final int maxExceptionsPerCode;
+    private final Set<String> seenCodes = ConcurrentHashMap.newKeySet();
+    private final HandlerMeters fallbackMeters = new HandlerMeters(FALLBACK_HANDLER);
+    private final ClassValue<HandlerMeters> handlerMeters = new ClassValue<>() {
+        @Override
+        protected HandlerMeters computeValue(Class<?> type) {
+            return new HandlerMeters(type.getSimpleName());
+        }
+    };
+
+    public MicrometerErrorHandlingListener(MeterRegistry meterRegistry, ErrorHandlingProperties properties) {
+        this(meterRegistry, properties, null);
+    }
+
+    /**
+     * @param responseCache the cache to record the hits, misses and size of, or <code>null</code> if there is no cache.
+     */
+    public MicrometerErrorHandlingListener(MeterRegistry meterRegistry,
+                                           ErrorHandlingProperties properties,
+                                           ApiErrorResponseCache responseCache) {
+        this(meterRegistry, properties, responseCache, null);
+    }
+
+    /**
+     * @param responseCache       the cache to record the hits, misses and size of, or <code>null</code> if there is no cache.
+     * @param asyncLoggingService the logging service to record the dropped and queued log events of,
+     *                            or <code>null</code> if the exceptions are logged synchronously.
+     */
+    public MicrometerErrorHandlingListener(MeterRegistry meterRegistry,
+                                           ErrorHandlingProperties properties,
+                                           ApiErrorResponseCache responseCache,
+                                           AsyncLoggingService asyncLoggingService) {
+        this.meterRegistry = meterRegistry;
+        this.allowedCodes = Set.copyOf(properties.getMetrics().getAllowedCodes());
+        this.maxCodes = properties.getMetrics().getMaxCodes();
+        this.maxExceptionsPerCode = properties.getMetrics().getMaxExceptionsPerCode();
+        if (responseCache != null) {
+            registerResponseCacheMetrics(responseCache);
+        }
+        if (asyncLoggingService != null) {
+            registerAsyncLoggingMetrics(asyncLoggingService);
+        }
+    }
+
+    @Override
+    public void onErrorHandled(ErrorHandlingEvent event) {
+        HandlerMeters meters = event.isFallback() ? fallbackMeters : handlerMeters.get(event.handler().getClass());
+        StatusMeters statusMeters = meters.forStatus(event.errorResponse().getHttpStatus().value());
+        String code = event.errorResponse().getCode();
+        Counter counter = isKnownCode(code)
+                ? statusMeters.counter(code, event.exception().getClass())
+                : statusMeters.otherCounter();
+        counter.increment();
+        statusMeters.timer.record(event.durationNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void registerResponseCacheMetrics(ApiErrorResponseCache responseCache) {
+        FunctionCounter.builder(RESPONSE_CACHE_GETS_METRIC, responseCache, ApiErrorResponseCache::getHitCount)
+                       .description("Number of lookups in the error response cache")
+                       .tag("result", "hit")
+                       .register(meterRegistry);
+        FunctionCounter.builder(RESPONSE_CACHE_GETS_METRIC, responseCache, ApiErrorResponseCache::getMissCount)
+                       .description("Number of lookups in the error response cache")
+                       .tag("result", "miss")
+                       .register(meterRegistry);
+        Gauge.builder(RESPONSE_CACHE_SIZE_METRIC, responseCache, ApiErrorResponseCache::size)
+             .description("Number of responses in the error response cache")
+             .register(meterRegistry);
+    }
+
+    private void registerAsyncLoggingMetrics(AsyncLoggingService asyncLoggingService) {
+        FunctionCounter.builder(ASYNC_LOGGING_DROPPED_METRIC, asyncLoggingService, AsyncLoggingService::getDroppedEventCount)
+                       .description("Number of error log events that were dropped because the async logging queue was full")
+                       .register(meterRegistry);
+        Gauge.builder(ASYNC_LOGGING_QUEUE_SIZE_METRIC, asyncLoggingService, AsyncLoggingService::getQueueSize)
+             .description("Number of error log events waiting to be logged")
+             .register(meterRegistry);
+    }
+
+    private boolean isKnownCode(String code) {
+        if (code == null) {
+            return false;
+        }
+        if (!allowedCodes.isEmpty()) {
+            return allowedCodes.contains(code);
+        }
+        if (seenCodes.contains(code)) {
+            return true;
+        }
+        // Racing threads can add a few more codes than the maximum, which is fine for bounding the cardinality
+        if (seenCodes.size() >= maxCodes) {
+            return false;
+        }
+        seenCodes.add(code);
+        return true;
+    }
+
+    /**
+     * The meters of one handler, indexed by the HTTP status code, so recording an error does not allocate.
+     */
+    private class HandlerMeters {
+        private final String handler;
+        private final AtomicReferenceArray<StatusMeters> statusMeters = new AtomicReferenceArray<>(MAX_STATUS + 1);
+
+        HandlerMeters(String handler) {
+            this.handler = handler;
+        }
+
+        StatusMeters forStatus(int status) {
+            StatusMeters meters = statusMeters.get(status);
+            if (meters == null) {
+                statusMeters.compareAndSet(status, null, new StatusMeters(String.valueOf(status), handler));
+                meters = statusMeters.get(status);
+            }
+            return meters;
+        }
+    }
+
+    private class StatusMeters {
+        private final String status;
+        private final String handler;
+        private final Timer timer;
+        private final Map<String, Map<Class<?>, Counter>> counters = new ConcurrentHashMap<>();
+        private final Map<String, Counter> otherExceptionCounters = new ConcurrentHashMap<>();
+        private volatile Counter otherCounter;
+
+        StatusMeters(String status, String handler) {
+            this.status = status;
+            this.handler = handler;
+            this.timer = Timer.builder(DURATION_METRIC)
+                              .description("Time it took to handle an exception")
+                              .tags(Tags.of("status", status, "handler", handler))
+                              .register(meterRegistry);
+        }
+
+        Counter counter(String code, Class<?> exceptionType) {
+            Map<Class<?>, Counter> countersByException = counters.get(code);
+            if (countersByException == null) {
+                countersByException = counters.computeIfAbsent(code, key -> new ConcurrentHashMap<>());
+            }
+            Counter counter = countersByException.get(exceptionType);
+            if (counter == null) {
+                // Racing threads can add a few more exception classes than the maximum, which is fine for bounding the cardinality
+                if (countersByException.size() >= maxExceptionsPerCode) {
+                    return otherExceptionCounter(code);
+                }
+                counter = countersByException.computeIfAbsent(exceptionType, type -> registerCounter(code, type.getName()));
+            }
+            return counter;
+        }
+
+        Counter otherExceptionCounter(String code) {
+            Counter counter = otherExceptionCounters.get(code);
+            if (counter == null) {
+                counter = otherExceptionCounters.computeIfAbsent(code, key -> registerCounter(key, OTHER));
+            }
+            return counter;
+        }
+
+        Counter otherCounter() {
+            Counter counter = otherCounter;
+            if (counter == null) {
+                // Registering is idempotent, so racing threads get the same counter
+                counter = registerCounter(OTHER, OTHER);
+                otherCounter = counter;
+            }
+            return counter;
+        }
+
+        private Counter registerCounter(String code, String exception) {
+            return Counter.builder(ERRORS_METRIC)
+                          .description("Number of exceptions handled by the error handling starter")
+                          .tags(Tags.of("status", status,
+                                        "code", code,
+                                        "exception", exception,
+                                        "handler", handler))
+                          .register(meterRegistry);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCustomizer;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiExceptionHandler;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr.ErrorResponseSerializedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.web.ErrorProperties;
@@ -11,25 +18,112 @@ import org.springframework.boot.autoconfigure.web.WebProperties;
 import org.springframework.boot.autoconfigure.web.reactive.error.DefaultErrorWebExceptionHandler;
 import org.springframework.boot.web.reactive.error.ErrorAttributes;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.*;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.DisconnectedClientHelper;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
 import java.util.Locale;
 
+/**
+ * Handles the exceptions of a reactive web application.
+ * <p>
+ * By default, the response is rendered via the {@link RouterFunction} and message writers of {@link DefaultErrorWebExceptionHandler}.
+ * When the <code>error.handling.reactive-direct-write</code> property is enabled, the {@link ApiErrorResponse} is encoded
+ * as JSON straight into a {@link DataBuffer} of the response instead, skipping the routing and the codec selection.
+ * Responses that are in the {@link ApiErrorResponseCache} are wrapped in a {@link DataBuffer} without copying.
+ * <p>
+ * The <code>error.handling.reactive-offload</code> property determines if the exception is handled on the
+ * thread that signalled it, or on a bounded elastic scheduler (see {@link #getOffloadScheduler()}).
+ */
 public class GlobalErrorWebExceptionHandler extends DefaultErrorWebExceptionHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalErrorWebExceptionHandler.class);
+    private static final int INITIAL_BUFFER_SIZE = 256;
 
     private final ErrorHandlingFacade errorHandlingFacade;
+    private final ErrorHandlingProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final ApiErrorResponseCache responseCache;
+    private ReactiveApiErrorResponseCustomization responseCustomization;
 
     public GlobalErrorWebExceptionHandler(ErrorAttributes errorAttributes,
                                           WebProperties.Resources resources,
                                           ErrorProperties errorProperties,
                                           ApplicationContext applicationContext,
                                           ErrorHandlingFacade errorHandlingFacade) {
+        this(errorAttributes, resources, errorProperties, applicationContext, errorHandlingFacade, null, null, null);
+    }
+
+    /**
+     * @param properties    the properties to check if <code>error.handling.reactive-direct-write</code> is enabled,
+     *                      or <code>null</code> to always render the response via the message writers.
+     * @param objectMapper  the object mapper to encode the response with when writing it directly.
+     * @param responseCache the cache to get the encoded response from, or <code>null</code> to always encode the response.
+     */
+    public GlobalErrorWebExceptionHandler(ErrorAttributes errorAttributes,
+                                          WebProperties.Resources resources,
+                                          ErrorProperties errorProperties,
+                                          ApplicationContext applicationContext,
+                                          ErrorHandlingFacade errorHandlingFacade,
+                                          ErrorHandlingProperties properties,
+                                          ObjectMapper objectMapper,
+                                          ApiErrorResponseCache responseCache) {
         super(errorAttributes, resources, errorProperties, applicationContext);
         this.errorHandlingFacade = errorHandlingFacade;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper != null ? objectMapper.writer() : null;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Set the customizers that are applied after the {@link ApiErrorResponseCustomizer}s, without blocking.
+     */
+    public void setResponseCustomizers(List<ReactiveApiErrorResponseCustomizer> responseCustomizers) {
+        Duration timeout = properties != null ? properties.getReactiveCustomizerTimeout() : Duration.ofSeconds(1);
+        this.responseCustomization = new ReactiveApiErrorResponseCustomization(responseCustomizers, timeout);
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable throwable) {
+        if (properties == null || objectMapper == null || !properties.isReactiveDirectWrite()) {
+            return super.handle(exchange, throwable);
+        }
+
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted() || DisconnectedClientHelper.isClientDisconnectedException(throwable)) {
+            return Mono.error(throwable);
+        }
+        LOGGER.debug("webRequest: {}", exchange.getRequest());
+        LOGGER.debug("locale: {}", exchange.getLocaleContext().getLocale());
+
+        return handleError(throwable).flatMap(errorResponse -> writeErrorResponse(response, errorResponse));
+    }
+
+    private Mono<Void> writeErrorResponse(ServerHttpResponse response, ApiErrorResponse errorResponse) {
+        DataBuffer buffer;
+        try {
+            buffer = encode(errorResponse, response.bufferFactory());
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(errorResponse.getHttpStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(buffer.readableByteCount());
+        return response.writeWith(Mono.just(buffer));
     }
 
     @Override
@@ -48,10 +142,68 @@ public class GlobalErrorWebExceptionHandler extends DefaultErrorWebExceptionHand
         LOGGER.debug("webRequest: {}", request);
         LOGGER.debug("locale: {}", locale);
 
-        ApiErrorResponse errorResponse = errorHandlingFacade.handle(exception);
+        return handleError(exception).flatMap(errorResponse -> ServerResponse.status(errorResponse.getHttpStatus())
+                                                                             .contentType(MediaType.APPLICATION_JSON)
+                                                                             .body(BodyInserters.fromValue(errorResponse)));
+    }
+
+    /**
+     * The scheduler to handle exceptions on, according to the <code>error.handling.reactive-offload</code> property.
+     */
+    protected Scheduler getOffloadScheduler() {
+        return Schedulers.boundedElastic();
+    }
+
+    private Mono<ApiErrorResponse> handleError(Throwable exception) {
+        Mono<ApiErrorResponse> errorResponse;
+        if (shouldOffload(exception)) {
+            errorResponse = Mono.fromCallable(() -> errorHandlingFacade.handle(exception))
+                                .subscribeOn(getOffloadScheduler());
+        } else {
+            errorResponse = Mono.just(errorHandlingFacade.handle(exception));
+        }
+        if (responseCustomization != null) {
+            errorResponse = errorResponse.flatMap(responseCustomization::customize);
+        }
+        return errorResponse;
+    }
+
+    private boolean shouldOffload(Throwable exception) {
+        ErrorHandlingProperties.ReactiveOffload offload = properties != null ? properties.getReactiveOffload() : ErrorHandlingProperties.ReactiveOffload.NONE;
+        return switch (offload) {
+            case NONE -> false;
+            case BLOCKING -> errorHandlingFacade.isBlocking(exception);
+            case ALL -> true;
+        };
+    }
+
+    private DataBuffer encode(ApiErrorResponse errorResponse, DataBufferFactory bufferFactory) throws IOException {
+        ErrorResponseSerializedEvent event = new ErrorResponseSerializedEvent();
+        event.begin();
+        ApiErrorResponseCache.Lookup lookup = responseCache != null ? responseCache.lookup(errorResponse, objectMapper) : null;
+        DataBuffer buffer = lookup != null ? bufferFactory.wrap(lookup.bytes())
+                                           : serialize(errorResponse, bufferFactory);
+        if (event.shouldCommit()) {
+            event.status = errorResponse.getHttpStatus().value();
+            event.code = errorResponse.getCode();
+            event.cached = lookup != null && lookup.hit();
+            event.commit();
+        }
+        return buffer;
+    }
 
-        return ServerResponse.status(errorResponse.getHttpStatus())
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(errorResponse));
+    private DataBuffer serialize(ApiErrorResponse errorResponse, DataBufferFactory bufferFactory) throws IOException {
+        DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+        boolean release = true;
+        try (OutputStream outputStream = buffer.asOutputStream();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            objectWriter.writeValue(generator, errorResponse);
+            release = false;
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        return buffer;
     }
 }
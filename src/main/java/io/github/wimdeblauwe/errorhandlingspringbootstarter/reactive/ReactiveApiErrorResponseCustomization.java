@@ -0,0 +1,101 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Applies the {@link ReactiveApiErrorResponseCustomizer}s to an {@link ApiErrorResponse}.
+ * <p>
+ * The customizers are subscribed to concurrently, each with its own copy of the response and with its own timeout.
+ * Their results are merged in the order of the customizers. The errors of a result that are not one of the errors
+ * of the original response are added to it, so a customizer can both add errors to its copy and return
+ * a new response.
+ */
+public class ReactiveApiErrorResponseCustomization {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveApiErrorResponseCustomization.class);
+
+    private final List<ReactiveApiErrorResponseCustomizer> customizers;
+    private final Duration defaultTimeout;
+
+    public ReactiveApiErrorResponseCustomization(List<ReactiveApiErrorResponseCustomizer> customizers,
+                                                 Duration defaultTimeout) {
+        this.customizers = List.copyOf(customizers);
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public Mono<ApiErrorResponse> customize(ApiErrorResponse response) {
+        if (customizers.isEmpty()) {
+            return Mono.just(response);
+        }
+        return Flux.fromIterable(customizers)
+                   .flatMapSequential(customizer -> customize(customizer, response))
+                   .collectList()
+                   .map(results -> merge(response, results));
+    }
+
+    private Mono<ApiErrorResponse> customize(ReactiveApiErrorResponseCustomizer customizer,
+                                             ApiErrorResponse response) {
+        Duration timeout = Objects.requireNonNullElse(customizer.getTimeout(), defaultTimeout);
+        return Mono.defer(() -> customizer.customize(copy(response)))
+                   .timeout(timeout)
+                   .onErrorResume(e -> {
+                       LOGGER.warn("Ignoring response customizer {}: {}", customizer, e.toString());
+                       return Mono.empty();
+                   });
+    }
+
+    private static ApiErrorResponse merge(ApiErrorResponse response, List<ApiErrorResponse> results) {
+        // The copies share the error instances of the original response, so they can be recognized by identity
+        Set<Object> originalErrors = Collections.newSetFromMap(new IdentityHashMap<>());
+        originalErrors.addAll(response.getFieldErrors());
+        originalErrors.addAll(response.getGlobalErrors());
+        originalErrors.addAll(response.getParameterErrors());
+        ApiErrorResponse merged = response;
+        for (ApiErrorResponse result : results) {
+            if (!Objects.equals(merged.getHttpStatus(), result.getHttpStatus())
+                    || !Objects.equals(merged.getCode(), result.getCode())
+                    || !Objects.equals(merged.getMessage(), result.getMessage())) {
+                ApiErrorResponse replacement = new ApiErrorResponse(result.getHttpStatus(), result.getCode(), result.getMessage());
+                addAll(replacement, merged);
+                merged = replacement;
+            }
+            merged.addErrorProperties(result.getProperties());
+            addNew(result.getFieldErrors(), originalErrors, merged::addFieldError);
+            addNew(result.getGlobalErrors(), originalErrors, merged::addGlobalError);
+            addNew(result.getParameterErrors(), originalErrors, merged::addParameterError);
+        }
+        return merged;
+    }
+
+    private static ApiErrorResponse copy(ApiErrorResponse response) {
+        ApiErrorResponse copy = new ApiErrorResponse(response.getHttpStatus(), response.getCode(), response.getMessage());
+        addAll(copy, response);
+        return copy;
+    }
+
+    private static void addAll(ApiErrorResponse target, ApiErrorResponse source) {
+        target.addErrorProperties(source.getProperties());
+        source.getFieldErrors().forEach(target::addFieldError);
+        source.getGlobalErrors().forEach(target::addGlobalError);
+        source.getParameterErrors().forEach(target::addParameterError);
+    }
+
+    private static <T> void addNew(List<T> source, Set<Object> originalErrors, Consumer<T> target) {
+        for (T error : source) {
+            if (!originalErrors.contains(error)) {
+                target.accept(error);
+            }
+        }
+    }
+}
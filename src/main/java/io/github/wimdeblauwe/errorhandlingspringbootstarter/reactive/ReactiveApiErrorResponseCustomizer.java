@@ -0,0 +1,34 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCustomizer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking variant of {@link ApiErrorResponseCustomizer} for reactive applications, for enrichment
+ * of the error response that needs I/O (e.g. looking up a support ticket id).
+ * <p>
+ * All reactive customizers are subscribed to concurrently. Each customizer gets its own copy of the response,
+ * and the error properties and the field, global and parameter errors that it adds are merged into the
+ * response in the order of the customizers. If a customizer returns a response with a different status,
+ * code or message, that status, code and message are used.
+ * <p>
+ * A customizer that fails, or does not complete within its timeout, does not contribute to the response.
+ */
+public interface ReactiveApiErrorResponseCustomizer {
+    /**
+     * @param response the copy of the response to customize.
+     * @return the customized response, or an empty {@link Mono} if nothing needs to be changed.
+     */
+    Mono<ApiErrorResponse> customize(ApiErrorResponse response);
+
+    /**
+     * @return the maximum time to wait for {@link #customize(ApiErrorResponse)} to complete,
+     * or <code>null</code> to use the <code>error.handling.reactive-customizer-timeout</code> property.
+     */
+    default Duration getTimeout() {
+        return null;
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.*;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ServerErrorExceptionHandler;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ServerWebInputExceptionHandler;
@@ -67,16 +68,24 @@ public class ReactiveErrorHandlingConfiguration extends AbstractErrorHandlingCon
                                                                    ObjectProvider<ViewResolver> viewResolvers,
                                                                    ServerCodecConfigurer serverCodecConfigurer,
                                                                    ApplicationContext applicationContext,
-                                                                         ErrorHandlingFacade errorHandlingFacade) {
+                                                                         ErrorHandlingFacade errorHandlingFacade,
+                                                                         ErrorHandlingProperties properties,
+                                                                         ObjectProvider<ObjectMapper> objectMapper,
+                                                                         ApiErrorResponseCache apiErrorResponseCache,
+                                                                         ObjectProvider<ReactiveApiErrorResponseCustomizer> reactiveResponseCustomizers) {
 
         GlobalErrorWebExceptionHandler exceptionHandler = new GlobalErrorWebExceptionHandler(errorAttributes,
                                                                                              webProperties.getResources(),
                                                                                              serverProperties.getError(),
                                                                                              applicationContext,
-                                                                                             errorHandlingFacade);
+                                                                                             errorHandlingFacade,
+                                                                                             properties,
+                                                                                             objectMapper.getIfAvailable(),
+                                                                                             apiErrorResponseCache);
         exceptionHandler.setViewResolvers(viewResolvers.orderedStream().collect(Collectors.toList()));
         exceptionHandler.setMessageWriters(serverCodecConfigurer.getWriters());
         exceptionHandler.setMessageReaders(serverCodecConfigurer.getReaders());
+        exceptionHandler.setResponseCustomizers(reactiveResponseCustomizers.orderedStream().collect(Collectors.toList()));
         return exceptionHandler;
     }
 
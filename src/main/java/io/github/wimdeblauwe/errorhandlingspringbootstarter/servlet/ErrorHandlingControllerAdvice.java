@@ -1,10 +1,17 @@
 package io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,19 +26,68 @@ public class ErrorHandlingControllerAdvice {
     private static final Logger LOGGER = LoggerFactory.getLogger(ErrorHandlingControllerAdvice.class);
 
     private final ErrorHandlingFacade errorHandlingFacade;
+    private final ApiErrorResponseCache responseCache;
+    private final ObjectMapper objectMapper;
 
+    @Autowired
     public ErrorHandlingControllerAdvice(ErrorHandlingFacade errorHandlingFacade) {
+        this(errorHandlingFacade, null, null);
+    }
+
+    /**
+     * @param responseCache the cache to get the JSON response from when it is enabled, or <code>null</code>
+     *                      to always let the message converters serialize the response. Only responses that are
+     *                      in the cache are written from it, all others are written by the message converters.
+     * @param objectMapper  the object mapper to serialize the response with when it is added to the cache.
+     */
+    public ErrorHandlingControllerAdvice(ErrorHandlingFacade errorHandlingFacade,
+                                         ApiErrorResponseCache responseCache,
+                                         ObjectMapper objectMapper) {
         this.errorHandlingFacade = errorHandlingFacade;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
     @ExceptionHandler
-    public ResponseEntity<?> handleException(Throwable exception, WebRequest webRequest, Locale locale) {
+    public ResponseEntity<?> handleException(Throwable exception, WebRequest webRequest, Locale locale) throws JsonProcessingException {
         LOGGER.debug("webRequest: {}", webRequest);
         LOGGER.debug("locale: {}", locale);
 
         ApiErrorResponse errorResponse = errorHandlingFacade.handle(exception);
 
+        if (responseCache != null && responseCache.isEnabled() && acceptsOnlyJson(webRequest)) {
+            byte[] bytes = responseCache.getCachedBytes(errorResponse, objectMapper);
+            if (bytes != null) {
+                return ResponseEntity.status(errorResponse.getHttpStatus())
+                                     .contentType(MediaType.APPLICATION_JSON)
+                                     .body(bytes);
+            }
+        }
+
         return ResponseEntity.status(errorResponse.getHttpStatus())
                              .body(errorResponse);
     }
+
+    /**
+     * The cached bytes are JSON, so they can only be used if content negotiation can only result in JSON.
+     * In all other cases, the message converters write the response.
+     */
+    private static boolean acceptsOnlyJson(WebRequest webRequest) {
+        String[] acceptHeaders = webRequest.getHeaderValues(HttpHeaders.ACCEPT);
+        if (acceptHeaders == null) {
+            return true;
+        }
+        try {
+            for (String acceptHeader : acceptHeaders) {
+                for (MediaType mediaType : MediaType.parseMediaTypes(acceptHeader)) {
+                    if (!mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                        return false;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        return true;
+    }
 }
@@ -2,6 +2,7 @@ package io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
 import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,11 +15,15 @@ import java.io.IOException;
 public class FilterChainExceptionHandlerFilter extends OncePerRequestFilter {
 
     private final ErrorHandlingFacade errorHandlingFacade;
-    private final ObjectMapper objectMapper;
+    private final ServletApiErrorResponseWriter responseWriter;
 
     public FilterChainExceptionHandlerFilter(ErrorHandlingFacade errorHandlingFacade, ObjectMapper objectMapper) {
+        this(errorHandlingFacade, objectMapper, null);
+    }
+
+    public FilterChainExceptionHandlerFilter(ErrorHandlingFacade errorHandlingFacade, ObjectMapper objectMapper, ApiErrorResponseCache responseCache) {
         this.errorHandlingFacade = errorHandlingFacade;
-        this.objectMapper = objectMapper;
+        this.responseWriter = new ServletApiErrorResponseWriter(objectMapper, responseCache);
     }
 
     @Override
@@ -29,9 +34,7 @@ public class FilterChainExceptionHandlerFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
         } catch (Exception ex) {
             ApiErrorResponse errorResponse = errorHandlingFacade.handle(ex);
-            response.setStatus(errorResponse.getHttpStatus().value());
-            var jsonResponseBody = objectMapper.writeValueAsString(errorResponse);
-            response.getWriter().write(jsonResponseBody);
+            responseWriter.write(response, errorResponse);
         }
     }
 }
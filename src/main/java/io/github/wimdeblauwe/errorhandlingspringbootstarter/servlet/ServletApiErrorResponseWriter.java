@@ -0,0 +1,81 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr.ErrorResponseSerializedEvent;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes an {@link ApiErrorResponse} as UTF-8 JSON to a {@link HttpServletResponse}, for the places where the
+ * response is not written by the Spring MVC message converters (filters and Spring Security handlers).
+ * <p>
+ * The JSON is serialized directly to the output stream of the response. If the response is in
+ * the {@link ApiErrorResponseCache}, the cached bytes are written and the <code>Content-Length</code> is set.
+ */
+public class ServletApiErrorResponseWriter {
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final ApiErrorResponseCache responseCache;
+
+    public ServletApiErrorResponseWriter(ObjectMapper objectMapper) {
+        this(objectMapper, null);
+    }
+
+    /**
+     * @param responseCache the cache to get the JSON response from, or <code>null</code> to always serialize the response.
+     */
+    public ServletApiErrorResponseWriter(ObjectMapper objectMapper, ApiErrorResponseCache responseCache) {
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer();
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Set the status and content type of the response, and write the error response as the body.
+     */
+    public void write(HttpServletResponse response, ApiErrorResponse errorResponse) throws IOException {
+        response.setStatus(errorResponse.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ServletOutputStream outputStream;
+        try {
+            outputStream = response.getOutputStream();
+        } catch (IllegalStateException e) {
+            // Something already used the writer of the response, so we can only continue with that
+            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+            return;
+        }
+
+        ErrorResponseSerializedEvent event = new ErrorResponseSerializedEvent();
+        event.begin();
+        ApiErrorResponseCache.Lookup lookup = responseCache != null ? responseCache.lookup(errorResponse, objectMapper) : null;
+        if (lookup != null) {
+            byte[] bytes = lookup.bytes();
+            response.setContentLength(bytes.length);
+            outputStream.write(bytes);
+        } else {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+                // Leave closing and flushing (which commits the response) to the servlet container
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+                objectWriter.writeValue(generator, errorResponse);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.status = errorResponse.getHttpStatus().value();
+            event.code = errorResponse.getCode();
+            event.cached = lookup != null && lookup.hit();
+            event.commit();
+        }
+    }
+}
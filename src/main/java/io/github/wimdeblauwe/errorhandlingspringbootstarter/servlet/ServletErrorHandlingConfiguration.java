@@ -39,14 +39,17 @@ public class ServletErrorHandlingConfiguration extends AbstractErrorHandlingConf
 
     @Bean
     @ConditionalOnMissingBean
-    public ErrorHandlingControllerAdvice errorHandlingControllerAdvice(ErrorHandlingFacade errorHandlingFacade) {
-        return new ErrorHandlingControllerAdvice(errorHandlingFacade);
+    public ErrorHandlingControllerAdvice errorHandlingControllerAdvice(ErrorHandlingFacade errorHandlingFacade,
+                                                                       ApiErrorResponseCache apiErrorResponseCache,
+                                                                       ObjectMapper objectMapper) {
+        return new ErrorHandlingControllerAdvice(errorHandlingFacade, apiErrorResponseCache, objectMapper);
     }
 
     @Bean
     @ConditionalOnProperty("error.handling.handle-filter-chain-exceptions")
-    public FilterChainExceptionHandlerFilter filterChainExceptionHandlerFilter(ErrorHandlingFacade errorHandlingFacade, ObjectMapper objectMapper) {
-        return new FilterChainExceptionHandlerFilter(errorHandlingFacade, objectMapper);
+    public FilterChainExceptionHandlerFilter filterChainExceptionHandlerFilter(ErrorHandlingFacade errorHandlingFacade, ObjectMapper objectMapper,
+                                                                               ApiErrorResponseCache apiErrorResponseCache) {
+        return new FilterChainExceptionHandlerFilter(errorHandlingFacade, objectMapper, apiErrorResponseCache);
     }
 
     @Bean
@@ -0,0 +1,159 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.BindApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ConstraintViolationApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.MissingRequestValueExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.ServerErrorExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.handler.TypeMismatchApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorCodeMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.ErrorMessageMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper.HttpStatusMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.server.ServerErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the number of bytes that are allocated to handle an exception and serialize the error response,
+ * so error storms do not put more pressure on the garbage collector than needed.
+ * <p>
+ * The allocations are measured with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)} for the
+ * current thread, after a warmup, and averaged over a number of iterations. The budgets have headroom for
+ * differences between JVMs, but a change that adds a copy of the response or the errors will exceed them.
+ * If a change legitimately needs more, measure the new value and update the budget.
+ * <p>
+ * The measurements need a quiet JVM, so these tests are not part of the default build.
+ * Run them with <code>./mvnw test -Pallocation-tests</code>.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    private ErrorHandlingFacade facade;
+    private ObjectWriter objectWriter;
+
+    @BeforeAll
+    static void checkAllocationMeasurementSupported() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                   "Thread allocation measurement is not available on this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation measurement is not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        HttpStatusMapper httpStatusMapper = new HttpStatusMapper(properties, List.of());
+        ErrorCodeMapper errorCodeMapper = new ErrorCodeMapper(properties);
+        ErrorMessageMapper errorMessageMapper = new ErrorMessageMapper(properties);
+
+        List<ApiExceptionHandler> handlers = List.of(
+                new BindApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new ConstraintViolationApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new TypeMismatchApiExceptionHandler(properties, httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new MissingRequestValueExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                new ServerErrorExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper));
+        facade = new ErrorHandlingFacade(handlers,
+                                         new DefaultFallbackApiExceptionHandler(httpStatusMapper, errorCodeMapper, errorMessageMapper),
+                                         new LoggingService(properties),
+                                         List.of());
+
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ApiErrorResponse.class, new ApiErrorResponseSerializer(properties));
+        objectWriter = new ObjectMapper().registerModule(module).writer();
+    }
+
+    @ParameterizedTest
+    @EnumSource(Scenario.class)
+    void handleAndSerializeStaysWithinBudget(Scenario scenario) throws IOException {
+        Throwable exception = scenario.exception.get();
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            handleAndSerialize(exception);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            handleAndSerialize(exception);
+        }
+        long bytesPerError = (threadMXBean.getThreadAllocatedBytes(threadId) - before) / MEASURED_ITERATIONS;
+
+        assertThat(bytesPerError)
+                .as("bytes allocated per %s error", scenario)
+                .isLessThanOrEqualTo(scenario.budgetBytes);
+    }
+
+    private void handleAndSerialize(Throwable exception) throws IOException {
+        objectWriter.writeValue(OutputStream.nullOutputStream(), facade.handle(exception));
+    }
+
+    enum Scenario {
+        BIND(15_000, () -> {
+            BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new CreateUserRequest(), "createUserRequest");
+            bindingResult.rejectValue("name", "NotBlank", "must not be blank");
+            bindingResult.rejectValue("email", "Email", "must be a well-formed email address");
+            bindingResult.reject("PasswordsMatch", "passwords do not match");
+            return new BindException(bindingResult);
+        }),
+        CONSTRAINT_VIOLATION(6_500, () -> {
+            try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+                return new ConstraintViolationException(validatorFactory.getValidator().validate(new CreateUserRequest()));
+            }
+        }),
+        TYPE_MISMATCH(1_500, () -> new TypeMismatchException("abc", Integer.class)),
+        MISSING_REQUEST_VALUE(1_600, () -> new MissingServletRequestParameterException("page", "int")),
+        SERVER_ERROR(1_200, () -> new ServerErrorException("Unexpected server error", (Throwable) null)),
+        FALLBACK(900, () -> new IllegalStateException("Order could not be processed"));
+
+        private final long budgetBytes;
+        private final Supplier<Throwable> exception;
+
+        Scenario(long budgetBytes, Supplier<Throwable> exception) {
+            this.budgetBytes = budgetBytes;
+            this.exception = exception;
+        }
+    }
+
+    public static class CreateUserRequest {
+        @NotBlank
+        private String name = "";
+        @Email
+        private String email = "invalid";
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiErrorResponseCacheTest {
+
+    private final ErrorHandlingProperties properties = createProperties();
+    private final ObjectMapper objectMapper = createObjectMapper(properties);
+
+    @Test
+    void cachesIdenticalResponses() throws Exception {
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+
+        byte[] first = cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+        byte[] second = cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{\"code\":\"ACCESS_DENIED\",\"message\":\"Access Denied\"}");
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void propertiesArePartOfTheKey() throws Exception {
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+        ApiErrorResponse first = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "MISSING_REQUEST_HEADER", "Missing header");
+        first.addErrorProperty("header", "X-Tenant");
+        ApiErrorResponse second = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "MISSING_REQUEST_HEADER", "Missing header");
+        second.addErrorProperty("header", "X-User");
+
+        cache.getBytes(first, objectMapper);
+        byte[] bytes = cache.getBytes(second, objectMapper);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).contains("X-User");
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void responsesWithErrorsOrComplexPropertiesAreNotCached() throws Exception {
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+        ApiErrorResponse withFieldError = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed");
+        withFieldError.addFieldError(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name"));
+        ApiErrorResponse withList = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", "Bad request");
+        withList.addErrorProperty("values", List.of("a", "b"));
+
+        cache.getBytes(withFieldError, objectMapper);
+        cache.getBytes(withList, objectMapper);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+    @Test
+    void disabledCacheSerializesEachTime() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() throws Exception {
+        properties.getResponseCache().setMaxSize(2);
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "A", "a"), objectMapper);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "B", "b"), objectMapper);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "A", "a"), objectMapper);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "C", "c"), objectMapper);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "A", "a"), objectMapper);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "B", "b"), objectMapper);
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void clearedWhenJsonFieldNamesAreReplaced() throws Exception {
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+
+        ErrorHandlingProperties.JsonFieldNames jsonFieldNames = new ErrorHandlingProperties.JsonFieldNames();
+        jsonFieldNames.setCode("type");
+        properties.setJsonFieldNames(jsonFieldNames);
+        byte[] bytes = cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"type\":\"ACCESS_DENIED\",\"message\":\"Access Denied\"}");
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void clearedWhenJsonFieldNameIsChangedInPlace() throws Exception {
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+        cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+
+        properties.getJsonFieldNames().setCode("type");
+        byte[] bytes = cache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("{\"type\":\"ACCESS_DENIED\",\"message\":\"Access Denied\"}");
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void cachedBytesReturnedForCacheableResponses() throws Exception {
+        ApiErrorResponseCache cache = new ApiErrorResponseCache(properties);
+        ApiErrorResponse withFieldError = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed");
+        withFieldError.addFieldError(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name"));
+
+        byte[] miss = cache.getCachedBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+        byte[] hit = cache.getCachedBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+        assertThat(miss).asString(StandardCharsets.UTF_8)
+                        .isEqualTo("{\"code\":\"ACCESS_DENIED\",\"message\":\"Access Denied\"}");
+        assertThat(hit).isSameAs(miss);
+        assertThat(cache.getCachedBytes(withFieldError, objectMapper)).isNull();
+        assertThat(cache.getCachedBytes(withFieldError, objectMapper)).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    private static ErrorHandlingProperties createProperties() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getResponseCache().setEnabled(true);
+        return properties;
+    }
+
+    private static ObjectMapper createObjectMapper(ErrorHandlingProperties properties) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ApiErrorResponse.class, new ApiErrorResponseSerializer(properties));
+        return new ObjectMapper().registerModule(module);
+    }
+}
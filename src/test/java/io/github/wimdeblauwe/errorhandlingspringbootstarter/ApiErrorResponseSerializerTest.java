@@ -0,0 +1,74 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiErrorResponseSerializerTest {
+
+    @Test
+    void serializesAllFields() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setHttpStatusInJsonResponse(true);
+        ObjectMapper objectMapper = createObjectMapper(properties);
+
+        assertThat(objectMapper.writeValueAsString(createResponse()))
+                .isEqualTo("{\"status\":400,\"code\":\"VALIDATION_FAILED\",\"message\":\"Validation failed\","
+                                   + "\"fieldErrors\":[{\"code\":\"REQUIRED\",\"message\":\"Name is required\",\"property\":\"name\",\"rejectedValue\":null,\"path\":\"name\"}],"
+                                   + "\"globalErrors\":[{\"code\":\"INVALID\",\"message\":\"Invalid\"}],"
+                                   + "\"parameterErrors\":[{\"code\":\"TOO_LOW\",\"message\":\"Too low\",\"parameter\":\"page\",\"rejectedValue\":-1}],"
+                                   + "\"requestId\":\"abc\"}");
+    }
+
+    @Test
+    void usesChangedFieldNames() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ObjectMapper objectMapper = createObjectMapper(properties);
+        objectMapper.writeValueAsString(createResponse());
+
+        ErrorHandlingProperties.JsonFieldNames jsonFieldNames = new ErrorHandlingProperties.JsonFieldNames();
+        jsonFieldNames.setCode("type");
+        jsonFieldNames.setMessage("detail");
+        jsonFieldNames.setFieldErrors("fields");
+        jsonFieldNames.setGlobalErrors("globals");
+        jsonFieldNames.setParameterErrors("parameters");
+        properties.setJsonFieldNames(jsonFieldNames);
+
+        assertThat(objectMapper.writeValueAsString(createResponse()))
+                .isEqualTo("{\"type\":\"VALIDATION_FAILED\",\"detail\":\"Validation failed\","
+                                   + "\"fields\":[{\"type\":\"REQUIRED\",\"detail\":\"Name is required\",\"property\":\"name\",\"rejectedValue\":null,\"path\":\"name\"}],"
+                                   + "\"globals\":[{\"type\":\"INVALID\",\"detail\":\"Invalid\"}],"
+                                   + "\"parameters\":[{\"type\":\"TOO_LOW\",\"detail\":\"Too low\",\"parameter\":\"page\",\"rejectedValue\":-1}],"
+                                   + "\"requestId\":\"abc\"}");
+    }
+
+    @Test
+    void usesFieldNamesChangedInPlace() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ObjectMapper objectMapper = createObjectMapper(properties);
+        objectMapper.writeValueAsString(createResponse());
+
+        properties.getJsonFieldNames().setCode("type");
+
+        assertThat(objectMapper.writeValueAsString(new ApiErrorResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", "Not found")))
+                .isEqualTo("{\"type\":\"NOT_FOUND\",\"message\":\"Not found\"}");
+    }
+
+    private static ObjectMapper createObjectMapper(ErrorHandlingProperties properties) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ApiErrorResponse.class, new ApiErrorResponseSerializer(properties));
+        return new ObjectMapper().registerModule(module);
+    }
+
+    private static ApiErrorResponse createResponse() {
+        ApiErrorResponse response = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed");
+        response.addFieldError(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name"));
+        response.addGlobalError(new ApiGlobalError("INVALID", "Invalid"));
+        response.addParameterError(new ApiParameterError("TOO_LOW", "page", "Too low", -1));
+        response.addErrorProperty("requestId", "abc");
+        return response;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiErrorResponseTest {
+
+    @Test
+    void emptyCollectionsAreSharedAndImmutable() {
+        ApiErrorResponse first = new ApiErrorResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", "Not found");
+        ApiErrorResponse second = new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access denied");
+
+        assertThat(first.getProperties()).isEmpty();
+        assertThat(first.getFieldErrors()).isEmpty();
+        assertThat(first.getGlobalErrors()).isEmpty();
+        assertThat(first.getParameterErrors()).isEmpty();
+        assertThat(first.getProperties()).isSameAs(second.getProperties());
+        assertThat(first.getFieldErrors()).isSameAs(second.getFieldErrors());
+        assertThatThrownBy(() -> first.getProperties().put("key", "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> first.getFieldErrors().add(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void addsToCollections() {
+        ApiErrorResponse response = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed");
+        response.addErrorProperty("requestId", "abc");
+        response.addErrorProperties(Map.of("tenant", "acme"));
+        response.addFieldError(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name"));
+        response.addGlobalError(new ApiGlobalError("INVALID", "Invalid"));
+        response.addParameterError(new ApiParameterError("TOO_LOW", "page", "Too low", -1));
+        response.addParameterError(new ApiParameterError("TOO_HIGH", "size", "Too high", 1000));
+
+        assertThat(response.getProperties()).containsOnly(Map.entry("requestId", "abc"), Map.entry("tenant", "acme"));
+        assertThat(response.getFieldErrors()).extracting(ApiFieldError::getCode).containsExactly("REQUIRED");
+        assertThat(response.getGlobalErrors()).extracting(ApiGlobalError::getCode).containsExactly("INVALID");
+        assertThat(response.getParameterErrors()).extracting(ApiParameterError::getCode).containsExactly("TOO_LOW", "TOO_HIGH");
+    }
+
+    @Test
+    void collectionsAreUnmodifiableAfterAdding() {
+        ApiErrorResponse response = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed");
+        response.addErrorProperty("requestId", "abc");
+        response.addFieldError(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name"));
+        response.addGlobalError(new ApiGlobalError("INVALID", "Invalid"));
+        response.addParameterError(new ApiParameterError("TOO_LOW", "page", "Too low", -1));
+
+        assertThatThrownBy(() -> response.getProperties().put("key", "value"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> response.getFieldErrors().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> response.getGlobalErrors().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> response.getParameterErrors().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void addingEmptyPropertiesKeepsSharedEmptyMap() {
+        ApiErrorResponse response = new ApiErrorResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", "Not found");
+        response.addErrorProperties(Map.of());
+
+        assertThat(response.getProperties()).isSameAs(Map.of());
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class AsyncLoggingServiceTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingService.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void logsOnWorkerThread() {
+        try (AsyncLoggingService loggingService = start(new AsyncLoggingService(properties(16)))) {
+            log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        assertThat(appender.list).singleElement()
+                                 .satisfies(event -> {
+                                     assertThat(event.getThreadName()).isEqualTo("error-handling-async-logging");
+                                     assertThat(event.getFormattedMessage()).isEqualTo("message");
+                                 });
+    }
+
+    @Test
+    void restoresMdcOnWorkerThread() {
+        try (AsyncLoggingService loggingService = start(new AsyncLoggingService(properties(16)))) {
+            MDC.put("traceId", "4bf92f3577b34da6");
+            try {
+                log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            } finally {
+                MDC.remove("traceId");
+            }
+            log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        assertThat(appender.list).hasSize(2);
+        assertThat(appender.list.get(0).getMDCPropertyMap()).containsOnly(Map.entry("traceId", "4bf92f3577b34da6"));
+        assertThat(appender.list.get(1).getMDCPropertyMap()).isEmpty();
+    }
+
+    @Test
+    void dropsEventsWhenQueueIsFull() throws InterruptedException {
+        BlockingAppender blockingAppender = new BlockingAppender();
+        blockingAppender.start();
+        logger.addAppender(blockingAppender);
+        try (AsyncLoggingService loggingService = start(new AsyncLoggingService(properties(2)))) {
+            log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(blockingAppender.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 5; i++) {
+                log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+
+            assertThat(loggingService.getQueueSize()).isEqualTo(2);
+            assertThat(loggingService.getDroppedEventCount()).isEqualTo(3);
+            blockingAppender.release.countDown();
+        } finally {
+            logger.detachAppender(blockingAppender);
+        }
+
+        assertThat(appender.list).hasSize(3);
+    }
+
+    @Test
+    void samplesEventsWhenQueueIsHalfFull() throws InterruptedException {
+        BlockingAppender blockingAppender = new BlockingAppender();
+        blockingAppender.start();
+        logger.addAppender(blockingAppender);
+        ErrorHandlingProperties properties = properties(4);
+        properties.getAsyncLogging().setOverflowPolicy(ErrorHandlingProperties.AsyncLoggingOverflowPolicy.SAMPLE);
+        properties.getAsyncLogging().setSampleRate(3);
+        try (AsyncLoggingService loggingService = start(new AsyncLoggingService(properties))) {
+            log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(blockingAppender.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 6; i++) {
+                log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+
+            assertThat(loggingService.getQueueSize()).isEqualTo(4);
+            assertThat(loggingService.getDroppedEventCount()).isEqualTo(2);
+            blockingAppender.release.countDown();
+        } finally {
+            logger.detachAppender(blockingAppender);
+        }
+    }
+
+    @Test
+    void disabledLogLevelIsNotQueued() {
+        ErrorHandlingProperties properties = properties(16);
+        properties.getLogLevels().put("4xx", LogLevel.TRACE);
+        try (AsyncLoggingService loggingService = start(new AsyncLoggingService(properties))) {
+            log(loggingService, HttpStatus.NOT_FOUND);
+
+            assertThat(loggingService.getQueueSize()).isZero();
+            assertThat(loggingService.getDroppedEventCount()).isZero();
+        }
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void droppedEventsDoNotUseLogLimits() throws InterruptedException {
+        BlockingAppender blockingAppender = new BlockingAppender();
+        blockingAppender.start();
+        logger.addAppender(blockingAppender);
+        ErrorHandlingProperties properties = properties(1);
+        ErrorHandlingProperties.LogLimit logLimit = new ErrorHandlingProperties.LogLimit();
+        logLimit.setMaxPerSecond(3);
+        properties.getLogLimits().getCodes().put("CODE", logLimit);
+        AsyncLoggingService loggingService = start(new AsyncLoggingService(properties, new StacktraceDeduplicator(properties), new LogLimiter(() -> 0L)));
+        try {
+            log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(blockingAppender.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 4; i++) {
+                log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+            }
+
+            assertThat(loggingService.getDroppedEventCount()).isEqualTo(3);
+            blockingAppender.release.countDown();
+        } finally {
+            loggingService.close();
+            logger.detachAppender(blockingAppender);
+        }
+
+        // The third token is still available for an exception that is logged synchronously after closing
+        log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+        log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(appender.list).hasSize(3);
+    }
+
+    @Test
+    void logsSynchronouslyBeforeStart() {
+        AsyncLoggingService loggingService = new AsyncLoggingService(properties(16));
+
+        log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(loggingService.isRunning()).isFalse();
+        assertThat(appender.list).singleElement()
+                                 .extracting(ILoggingEvent::getThreadName)
+                                 .isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void logsSynchronouslyAfterClose() {
+        AsyncLoggingService loggingService = start(new AsyncLoggingService(properties(16)));
+        loggingService.close();
+
+        log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(appender.list).singleElement()
+                                 .extracting(ILoggingEvent::getThreadName)
+                                 .isEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    void invalidQueueCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AsyncLoggingService(properties(0)));
+    }
+
+    private static ErrorHandlingProperties properties(int queueCapacity) {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getAsyncLogging().setEnabled(true);
+        properties.getAsyncLogging().setQueueCapacity(queueCapacity);
+        return properties;
+    }
+
+    private static AsyncLoggingService start(AsyncLoggingService loggingService) {
+        loggingService.start();
+        return loggingService;
+    }
+
+    private static void log(LoggingService loggingService, HttpStatus httpStatus) {
+        loggingService.logException(new ApiErrorResponse(httpStatus, "CODE", "message"), new RuntimeException("message"));
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.server.MethodNotAllowedException;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -278,6 +279,18 @@ class DefaultFallbackApiExceptionHandlerTest {
             assertThat(response.getMessage()).isEqualTo("test message");
             assertThat(response.getProperties()).hasEntrySatisfying("myProperty", new HamcrestCondition<>(Matchers.is("test property")));
         }
+
+        @Test
+        void testResponseErrorPropertyOnFieldIsReadForEachException() {
+            ErrorHandlingProperties properties = new ErrorHandlingProperties();
+            DefaultFallbackApiExceptionHandler handler = createDefaultFallbackApiExceptionHandler(properties);
+            ApiErrorResponse firstResponse = handler.handle(new ExceptionWithResponseErrorPropertyOnField("firstValue"));
+            ApiErrorResponse secondResponse = handler.handle(new ExceptionWithResponseErrorPropertyOnField(null));
+            ApiErrorResponse thirdResponse = handler.handle(new ExceptionWithResponseErrorPropertyOnField("thirdValue"));
+            assertThat(firstResponse.getProperties()).hasEntrySatisfying("myProperty", new HamcrestCondition<>(Matchers.is("firstValue")));
+            assertThat(secondResponse.getProperties()).doesNotContainKey("myProperty");
+            assertThat(thirdResponse.getProperties()).hasEntrySatisfying("myProperty", new HamcrestCondition<>(Matchers.is("thirdValue")));
+        }
     }
 
     @Nested
@@ -338,6 +351,25 @@ class DefaultFallbackApiExceptionHandlerTest {
         }
     }
 
+    @Test
+    void testResponseErrorPropertyOnMethodThatThrows() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        DefaultFallbackApiExceptionHandler handler = createDefaultFallbackApiExceptionHandler(properties);
+        ApiErrorResponse response = handler.handle(new ExceptionWithThrowingResponseErrorProperty());
+        assertThat(response.getProperties()).doesNotContainKey("failing")
+                                            .hasEntrySatisfying("working", new HamcrestCondition<>(Matchers.is("ok")));
+    }
+
+    @Test
+    void testResponseErrorPropertyOnPublicMethodIsNotReadThroughReflection() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        DefaultFallbackApiExceptionHandler handler = createDefaultFallbackApiExceptionHandler(properties);
+        ApiErrorResponse response = handler.handle(new ExceptionWithPublicResponseErrorProperties());
+        assertThat(response.getProperties()).containsEntry("attempt", 3)
+                                            .containsEntry("invokedReflectively", false)
+                                            .doesNotContainKey("failing");
+    }
+
     @Test
     void testResponseStatusForResponseStatusException() {
         ErrorHandlingProperties properties = new ErrorHandlingProperties();
@@ -365,4 +397,35 @@ class DefaultFallbackApiExceptionHandlerTest {
                                                       new ErrorMessageMapper(properties));
     }
 
+    private static class ExceptionWithThrowingResponseErrorProperty extends RuntimeException {
+        @ResponseErrorProperty
+        public String getFailing() {
+            throw new IllegalStateException("failing property");
+        }
+
+        @ResponseErrorProperty
+        public String getWorking() {
+            return "ok";
+        }
+    }
+
+    public static class ExceptionWithPublicResponseErrorProperties extends RuntimeException {
+        @ResponseErrorProperty
+        public int getAttempt() {
+            return 3;
+        }
+
+        @ResponseErrorProperty
+        public boolean isInvokedReflectively() {
+            return Arrays.stream(new Throwable().getStackTrace())
+                         .takeWhile(element -> !element.getClassName().equals(DefaultFallbackApiExceptionHandler.class.getName()))
+                         .anyMatch(element -> element.getClassName().startsWith("java.lang.reflect.")
+                                 || element.getClassName().startsWith("jdk.internal.reflect."));
+        }
+
+        @ResponseErrorProperty
+        public String getFailing() {
+            throw new IllegalStateException("failing property");
+        }
+    }
 }
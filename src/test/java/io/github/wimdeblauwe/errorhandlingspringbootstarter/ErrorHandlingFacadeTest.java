@@ -0,0 +1,152 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorHandlingFacadeTest {
+
+    @Test
+    void canHandleIsOnlyCalledOncePerExceptionClass() {
+        CountingApiExceptionHandler handler = new CountingApiExceptionHandler(IllegalArgumentException.class, "ILLEGAL_ARGUMENT", true);
+        ErrorHandlingFacade facade = createFacade(List.of(handler));
+
+        facade.handle(new IllegalArgumentException("first"));
+        facade.handle(new IllegalArgumentException("second"));
+        ApiErrorResponse response = facade.handle(new IllegalArgumentException("third"));
+
+        assertThat(response.getCode()).isEqualTo("ILLEGAL_ARGUMENT");
+        assertThat(handler.canHandleCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void fallbackIsRememberedPerExceptionClass() {
+        CountingApiExceptionHandler handler = new CountingApiExceptionHandler(IllegalArgumentException.class, "ILLEGAL_ARGUMENT", true);
+        ErrorHandlingFacade facade = createFacade(List.of(handler));
+
+        facade.handle(new IllegalStateException("first"));
+        ApiErrorResponse response = facade.handle(new IllegalStateException("second"));
+
+        assertThat(response.getCode()).isEqualTo("FALLBACK");
+        assertThat(handler.canHandleCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void nonCacheableHandlerIsAskedForEveryException() {
+        CountingApiExceptionHandler nonCacheableHandler = new CountingApiExceptionHandler(IllegalArgumentException.class, "NON_CACHEABLE", false) {
+            @Override
+            public boolean canHandle(Throwable exception) {
+                return super.canHandle(exception) && "special".equals(exception.getMessage());
+            }
+        };
+        CountingApiExceptionHandler cacheableHandler = new CountingApiExceptionHandler(IllegalArgumentException.class, "CACHEABLE", true);
+        ErrorHandlingFacade facade = createFacade(List.of(nonCacheableHandler, cacheableHandler));
+
+        assertThat(facade.handle(new IllegalArgumentException("normal")).getCode()).isEqualTo("CACHEABLE");
+        assertThat(facade.handle(new IllegalArgumentException("special")).getCode()).isEqualTo("NON_CACHEABLE");
+        assertThat(facade.handle(new IllegalArgumentException("normal")).getCode()).isEqualTo("CACHEABLE");
+
+        assertThat(nonCacheableHandler.canHandleCount.get()).isEqualTo(3);
+        assertThat(cacheableHandler.canHandleCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    void isBlockingIfHandlerForExceptionIsBlocking() {
+        CountingApiExceptionHandler blockingHandler = new CountingApiExceptionHandler(IllegalArgumentException.class, "BLOCKING", true) {
+            @Override
+            public boolean isBlocking() {
+                return true;
+            }
+        };
+        ErrorHandlingFacade facade = createFacade(List.of(blockingHandler));
+
+        assertThat(facade.isBlocking(new IllegalArgumentException())).isTrue();
+        assertThat(facade.isBlocking(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    void isBlockingForAllExceptionsIfResponseCustomizerIsBlocking() {
+        ApiErrorResponseCustomizer blockingCustomizer = new ApiErrorResponseCustomizer() {
+            @Override
+            public void customize(ApiErrorResponse response) {
+            }
+
+            @Override
+            public boolean isBlocking() {
+                return true;
+            }
+        };
+        ErrorHandlingFacade facade = createFacade(List.of(), List.of(blockingCustomizer));
+
+        assertThat(facade.isBlocking(new IllegalStateException())).isTrue();
+    }
+
+    @Test
+    void listenersAreNotifiedWithHandlerThatCreatedResponse() {
+        CountingApiExceptionHandler handler = new CountingApiExceptionHandler(IllegalArgumentException.class, "ILLEGAL_ARGUMENT", true);
+        List<ErrorHandlingEvent> events = new ArrayList<>();
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        ErrorHandlingFacade facade = new ErrorHandlingFacade(List.of(handler),
+                                                             exception -> new ApiErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "FALLBACK", exception.getMessage()),
+                                                             new LoggingService(properties),
+                                                             List.of(),
+                                                             List.of(events::add));
+
+        facade.handle(new IllegalArgumentException());
+        facade.handle(new IllegalStateException());
+
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).handler()).isSameAs(handler);
+        assertThat(events.get(0).errorResponse().getCode()).isEqualTo("ILLEGAL_ARGUMENT");
+        assertThat(events.get(0).durationNanos()).isPositive();
+        assertThat(events.get(1).isFallback()).isTrue();
+    }
+
+    private static ErrorHandlingFacade createFacade(List<ApiExceptionHandler> handlers) {
+        return createFacade(handlers, List.of());
+    }
+
+    private static ErrorHandlingFacade createFacade(List<ApiExceptionHandler> handlers, List<ApiErrorResponseCustomizer> responseCustomizers) {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        return new ErrorHandlingFacade(handlers,
+                                       exception -> new ApiErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "FALLBACK", exception.getMessage()),
+                                       new LoggingService(properties),
+                                       responseCustomizers);
+    }
+
+    private static class CountingApiExceptionHandler implements ApiExceptionHandler {
+        private final Class<? extends Throwable> exceptionType;
+        private final String code;
+        private final boolean cacheable;
+        private final AtomicInteger canHandleCount = new AtomicInteger();
+
+        CountingApiExceptionHandler(Class<? extends Throwable> exceptionType, String code, boolean cacheable) {
+            this.exceptionType = exceptionType;
+            this.code = code;
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public boolean canHandle(Throwable exception) {
+            canHandleCount.incrementAndGet();
+            return exceptionType.isInstance(exception);
+        }
+
+        @Override
+        public ApiErrorResponse handle(Throwable exception) {
+            return new ApiErrorResponse(HttpStatus.BAD_REQUEST, code, exception.getMessage());
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+}
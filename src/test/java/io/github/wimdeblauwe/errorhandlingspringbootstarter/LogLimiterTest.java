@@ -0,0 +1,97 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogLimiterTest {
+
+    private long nanoTime = 1_000_000;
+
+    @Test
+    void noLimit() {
+        LogLimiter logLimiter = new LogLimiter(() -> nanoTime);
+
+        assertThat(logLimiter.tryAcquire(null)).isTrue();
+        assertThat(logLimiter.tryAcquire(new ErrorHandlingProperties.LogLimit())).isTrue();
+    }
+
+    @Test
+    void maxPerSecondAllowsBurstAndRefills() {
+        LogLimiter logLimiter = new LogLimiter(() -> nanoTime);
+        ErrorHandlingProperties.LogLimit logLimit = new ErrorHandlingProperties.LogLimit();
+        logLimit.setMaxPerSecond(4);
+
+        assertThat(acquire(logLimiter, logLimit, 6)).isEqualTo(4);
+
+        nanoTime += TimeUnit.MILLISECONDS.toNanos(250);
+        assertThat(acquire(logLimiter, logLimit, 6)).isEqualTo(1);
+
+        nanoTime += TimeUnit.SECONDS.toNanos(10);
+        assertThat(acquire(logLimiter, logLimit, 6)).isEqualTo(4);
+    }
+
+    @Test
+    void separateBucketPerLimit() {
+        LogLimiter logLimiter = new LogLimiter(() -> nanoTime);
+        ErrorHandlingProperties.LogLimit first = new ErrorHandlingProperties.LogLimit();
+        first.setMaxPerSecond(1);
+        ErrorHandlingProperties.LogLimit second = new ErrorHandlingProperties.LogLimit();
+        second.setMaxPerSecond(1);
+
+        assertThat(logLimiter.tryAcquire(first)).isTrue();
+        assertThat(logLimiter.tryAcquire(first)).isFalse();
+        assertThat(logLimiter.tryAcquire(second)).isTrue();
+    }
+
+    @Test
+    void rejectionBySecondLimitDoesNotUseFirstLimit() {
+        LogLimiter logLimiter = new LogLimiter(() -> nanoTime);
+        ErrorHandlingProperties.LogLimit codeLimit = new ErrorHandlingProperties.LogLimit();
+        codeLimit.setMaxPerSecond(2);
+        ErrorHandlingProperties.LogLimit statusLimit = new ErrorHandlingProperties.LogLimit();
+        statusLimit.setMaxPerSecond(1);
+
+        assertThat(logLimiter.tryAcquire(codeLimit, statusLimit)).isTrue();
+        assertThat(logLimiter.tryAcquire(codeLimit, statusLimit)).isFalse();
+        assertThat(logLimiter.tryAcquire(codeLimit, statusLimit)).isFalse();
+
+        assertThat(logLimiter.tryAcquire(codeLimit)).isTrue();
+        assertThat(logLimiter.tryAcquire(codeLimit)).isFalse();
+    }
+
+    @Test
+    void twoLimitsWithoutLimit() {
+        LogLimiter logLimiter = new LogLimiter(() -> nanoTime);
+        ErrorHandlingProperties.LogLimit logLimit = new ErrorHandlingProperties.LogLimit();
+        logLimit.setMaxPerSecond(1);
+
+        assertThat(logLimiter.tryAcquire(null, null)).isTrue();
+        assertThat(logLimiter.tryAcquire(null, logLimit)).isTrue();
+        assertThat(logLimiter.tryAcquire(logLimit, null)).isFalse();
+    }
+
+    @Test
+    void sampleRatio() {
+        LogLimiter logLimiter = new LogLimiter(() -> nanoTime);
+        ErrorHandlingProperties.LogLimit none = new ErrorHandlingProperties.LogLimit();
+        none.setSampleRatio(0);
+        ErrorHandlingProperties.LogLimit half = new ErrorHandlingProperties.LogLimit();
+        half.setSampleRatio(0.5);
+
+        assertThat(acquire(logLimiter, none, 1000)).isZero();
+        assertThat(acquire(logLimiter, half, 1000)).isBetween(350, 650);
+    }
+
+    private static int acquire(LogLimiter logLimiter, ErrorHandlingProperties.LogLimit logLimit, int attempts) {
+        int acquired = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (logLimiter.tryAcquire(logLimit)) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+}
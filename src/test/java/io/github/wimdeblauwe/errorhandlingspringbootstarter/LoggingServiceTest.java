@@ -0,0 +1,279 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingServiceTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(LoggingService.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void logsOnErrorWithoutStacktraceByDefault() {
+        LoggingService loggingService = new LoggingService(new ErrorHandlingProperties());
+
+        log(loggingService, HttpStatus.NOT_FOUND);
+
+        assertThat(appender.list).singleElement()
+                                 .satisfies(event -> {
+                                     assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+                                     assertThat(event.getThrowableProxy()).isNull();
+                                 });
+    }
+
+    @Test
+    void logLevelsWithExactStatusAndWildcards() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getLogLevels().put("404", LogLevel.DEBUG);
+        properties.getLogLevels().put("40x", LogLevel.INFO);
+        properties.getLogLevels().put("4xx", LogLevel.WARN);
+        LoggingService loggingService = new LoggingService(properties);
+
+        log(loggingService, HttpStatus.NOT_FOUND);
+        log(loggingService, HttpStatus.BAD_REQUEST);
+        log(loggingService, HttpStatus.UNPROCESSABLE_ENTITY);
+        log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel)
+                                 .containsExactly(Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+    }
+
+    @Test
+    void fullStacktraceHttpStatuses() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setFullStacktraceHttpStatuses(List.of("5xx"));
+        LoggingService loggingService = new LoggingService(properties);
+
+        log(loggingService, HttpStatus.BAD_GATEWAY);
+        log(loggingService, HttpStatus.BAD_REQUEST);
+
+        assertThat(appender.list).extracting(event -> event.getThrowableProxy() != null)
+                                 .containsExactly(true, false);
+    }
+
+    @Test
+    void statusOutsideOfTableUsesSameRules() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getLogLevels().put("7xx", LogLevel.WARN);
+        properties.setFullStacktraceHttpStatuses(List.of("799"));
+        LoggingService loggingService = new LoggingService(properties);
+
+        log(loggingService, HttpStatusCode.valueOf(799));
+
+        assertThat(appender.list).singleElement()
+                                 .satisfies(event -> {
+                                     assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                                     assertThat(event.getThrowableProxy()).isNotNull();
+                                 });
+    }
+
+    @Test
+    void tableIsRebuiltWhenPropertiesAreRebound() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        LoggingService loggingService = new LoggingService(properties);
+        log(loggingService, HttpStatus.NOT_FOUND);
+
+        Map<String, LogLevel> logLevels = new HashMap<>();
+        logLevels.put("4xx", LogLevel.INFO);
+        properties.setLogLevels(logLevels);
+        properties.setFullStacktraceHttpStatuses(new ArrayList<>(List.of("404")));
+        log(loggingService, HttpStatus.NOT_FOUND);
+
+        properties.getLogLevels().put("404", LogLevel.WARN);
+        loggingService.clearCache();
+        log(loggingService, HttpStatus.NOT_FOUND);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel)
+                                 .containsExactly(Level.ERROR, Level.INFO, Level.WARN);
+        assertThat(appender.list).extracting(event -> event.getThrowableProxy() != null)
+                                 .containsExactly(false, true, true);
+    }
+
+    @Test
+    void fullStacktraceClassesOnlyMatchExactClassByDefault() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setFullStacktraceClasses(List.of(IllegalArgumentException.class));
+        LoggingService loggingService = new LoggingService(properties);
+
+        log(loggingService, new IllegalArgumentException("message"));
+        log(loggingService, new NumberFormatException("message"));
+
+        assertThat(appender.list).extracting(event -> event.getThrowableProxy() != null)
+                                 .containsExactly(true, false);
+    }
+
+    @Test
+    void fullStacktraceClassesIncludeSubclasses() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setFullStacktraceClasses(List.of(IllegalArgumentException.class));
+        properties.setFullStacktraceClassesIncludeSubclasses(true);
+        LoggingService loggingService = new LoggingService(properties);
+
+        log(loggingService, new IllegalArgumentException("message"));
+        log(loggingService, new NumberFormatException("message"));
+        log(loggingService, new IllegalStateException("message"));
+
+        assertThat(appender.list).extracting(event -> event.getThrowableProxy() != null)
+                                 .containsExactly(true, true, false);
+    }
+
+    @Test
+    void repeatedStacktraceIsLoggedOnceWithDeduplication() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.WITH_STACKTRACE);
+        properties.getStacktraceDeduplication().setEnabled(true);
+        LoggingService loggingService = new LoggingService(properties);
+
+        for (int i = 0; i < 3; i++) {
+            log(loggingService, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        assertThat(appender.list).extracting(event -> event.getThrowableProxy() != null)
+                                 .containsExactly(true, false, false);
+        String fingerprint = appender.list.get(1).getFormattedMessage().replaceAll(".*\\[stacktrace (\\w+) omitted.*", "$1");
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                                 .containsExactly("message",
+                                                  "message [stacktrace " + fingerprint + " omitted, occurrence 2]",
+                                                  "message [stacktrace " + fingerprint + " omitted, occurrence 3]");
+    }
+
+    @Test
+    void deduplicatedExceptionWithoutMessageIsLoggedWithClassName() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.WITH_STACKTRACE);
+        properties.getStacktraceDeduplication().setEnabled(true);
+        LoggingService loggingService = new LoggingService(properties);
+
+        for (int i = 0; i < 2; i++) {
+            log(loggingService, new IllegalStateException());
+        }
+
+        assertThat(appender.list.get(1).getFormattedMessage()).startsWith("java.lang.IllegalStateException [stacktrace ")
+                                                                .endsWith(" omitted, occurrence 2]");
+    }
+
+    @Test
+    void logLimitsForCodeAndHttpStatus() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ErrorHandlingProperties.LogLimit codeLimit = new ErrorHandlingProperties.LogLimit();
+        codeLimit.setMaxPerSecond(2);
+        properties.getLogLimits().getCodes().put("VALIDATION_FAILED", codeLimit);
+        ErrorHandlingProperties.LogLimit statusLimit = new ErrorHandlingProperties.LogLimit();
+        statusLimit.setSampleRatio(0);
+        properties.getLogLimits().getHttpStatuses().put("40x", statusLimit);
+        LoggingService loggingService = new LoggingService(properties);
+
+        for (int i = 0; i < 5; i++) {
+            loggingService.logException(new ApiErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, "VALIDATION_FAILED", "message"), new RuntimeException("validation"));
+            loggingService.logException(new ApiErrorResponse(HttpStatus.NOT_FOUND, "NOT_FOUND", "message"), new RuntimeException("not found"));
+            loggingService.logException(new ApiErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "ERROR", "message"), new RuntimeException("error"));
+        }
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                                 .containsExactly("validation", "error", "validation", "error", "error", "error", "error");
+    }
+
+    @Test
+    void noLoggingDoesNotTakeLogLimitTokens() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        ErrorHandlingProperties.LogLimit codeLimit = new ErrorHandlingProperties.LogLimit();
+        codeLimit.setMaxPerSecond(1);
+        properties.getLogLimits().getCodes().put("CODE", codeLimit);
+        LoggingService loggingService = new LoggingService(properties);
+
+        log(loggingService, HttpStatus.BAD_REQUEST);
+        log(loggingService, HttpStatus.BAD_REQUEST);
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.MESSAGE_ONLY);
+        log(loggingService, HttpStatus.BAD_REQUEST);
+
+        assertThat(appender.list).hasSize(1);
+    }
+
+    @Test
+    void logLimiterIsClearedWhenPropertiesAreRebound() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        int[] clearCount = new int[1];
+        LogLimiter logLimiter = new LogLimiter() {
+            @Override
+            public void clear() {
+                clearCount[0]++;
+                super.clear();
+            }
+        };
+        LoggingService loggingService = new LoggingService(properties, new StacktraceDeduplicator(properties), logLimiter);
+        log(loggingService, HttpStatus.BAD_REQUEST);
+        log(loggingService, HttpStatus.BAD_REQUEST);
+        assertThat(clearCount[0]).isZero();
+
+        properties.getLogLimits().setCodes(new HashMap<>());
+        log(loggingService, HttpStatus.BAD_REQUEST);
+
+        assertThat(clearCount[0]).isEqualTo(1);
+    }
+
+    @Test
+    void messageIsNotBuiltWhenLogLevelIsDisabled() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getLogLevels().put("404", LogLevel.TRACE);
+        properties.setFullStacktraceHttpStatuses(List.of("404"));
+        LoggingService loggingService = new LoggingService(properties);
+        MessageCountingException exception = new MessageCountingException();
+
+        Level originalLevel = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        try {
+            loggingService.logException(new ApiErrorResponse(HttpStatus.NOT_FOUND, "CODE", "message"), exception);
+        } finally {
+            logger.setLevel(originalLevel);
+        }
+
+        assertThat(appender.list).isEmpty();
+        assertThat(exception.getMessageCount).isZero();
+    }
+
+    private static void log(LoggingService loggingService, Throwable exception) {
+        loggingService.logException(new ApiErrorResponse(HttpStatus.BAD_REQUEST, "CODE", "message"), exception);
+    }
+
+    private static void log(LoggingService loggingService, HttpStatusCode httpStatus) {
+        loggingService.logException(new ApiErrorResponse(httpStatus, "CODE", "message"), new RuntimeException("message"));
+    }
+
+    private static class MessageCountingException extends RuntimeException {
+        private int getMessageCount;
+
+        @Override
+        public String getMessage() {
+            getMessageCount++;
+            return "message";
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@WebFluxTest(
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.main.allow-bean-definition-overriding=true",
+                "error.handling.reactive-direct-write=true"
+        },
+        controllers = ReactiveIntegrationTestRestController.class
+)
+class ReactiveDirectWriteIntegrationTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Test
+    @WithMockUser
+    void testRuntimeException() {
+        webTestClient.get()
+                     .uri("/integration-test/runtime")
+                     .accept(MediaType.ALL)
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR)
+                     .expectHeader().contentType(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    @WithMockUser
+    void testApplicationException() {
+        byte[] body = webTestClient.get()
+                                   .uri("/integration-test/application-request")
+                                   .exchange()
+                                   .expectStatus().is5xxServerError()
+                                   .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                                   .expectBody()
+                                   .jsonPath("$.code").isEqualTo("APPLICATION")
+                                   .jsonPath("$.message").isEqualTo("Application error")
+                                   .returnResult()
+                                   .getResponseBody();
+
+        webTestClient.get()
+                     .uri("/integration-test/application-request")
+                     .exchange()
+                     .expectHeader().contentLength(body.length);
+        assertThat(body).isNotEmpty();
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive.ReactiveApiErrorResponseCustomizer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.startsWith;
+
+@WebFluxTest(
+        properties = {
+                "spring.main.web-application-type=reactive",
+                "spring.main.allow-bean-definition-overriding=true",
+                "error.handling.reactive-offload=BLOCKING"
+        },
+        controllers = ReactiveIntegrationTestRestController.class
+)
+@Import(ReactiveOffloadIntegrationTest.TestConfig.class)
+class ReactiveOffloadIntegrationTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Test
+    @WithMockUser
+    void blockingCustomizerRunsOnBoundedElasticScheduler() {
+        webTestClient.get()
+                     .uri("/integration-test/application-request")
+                     .exchange()
+                     .expectStatus().is5xxServerError()
+                     .expectBody()
+                     .jsonPath("$.code").isEqualTo("APPLICATION")
+                     .jsonPath("$.thread").value(startsWith("boundedElastic-"));
+    }
+
+    @Test
+    @WithMockUser
+    void reactiveCustomizerIsApplied() {
+        webTestClient.get()
+                     .uri("/integration-test/application-request")
+                     .exchange()
+                     .expectStatus().is5xxServerError()
+                     .expectBody()
+                     .jsonPath("$.code").isEqualTo("APPLICATION")
+                     .jsonPath("$.ticket").isEqualTo("T-123");
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public ApiErrorResponseCustomizer threadNameCustomizer() {
+            return new ApiErrorResponseCustomizer() {
+                @Override
+                public void customize(ApiErrorResponse response) {
+                    response.addErrorProperty("thread", Thread.currentThread().getName());
+                }
+
+                @Override
+                public boolean isBlocking() {
+                    return true;
+                }
+            };
+        }
+
+        @Bean
+        public ReactiveApiErrorResponseCustomizer ticketCustomizer() {
+            return response -> Mono.fromSupplier(() -> {
+                response.addErrorProperty("ticket", "T-123");
+                return response;
+            }).delayElement(Duration.ofMillis(10));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StacktraceDeduplicatorTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void countsOccurrencesOfSameFingerprint() {
+        StacktraceDeduplicator deduplicator = new StacktraceDeduplicator(properties(), clock);
+
+        StacktraceDeduplicator.Occurrence first = deduplicator.register(createException("first"));
+        StacktraceDeduplicator.Occurrence second = deduplicator.register(createException("second"));
+
+        assertThat(first.isFirst()).isTrue();
+        assertThat(second.isFirst()).isFalse();
+        assertThat(second.count()).isEqualTo(2);
+        assertThat(second.fingerprint()).isEqualTo(first.fingerprint());
+    }
+
+    @Test
+    void differentExceptionClassHasDifferentFingerprint() {
+        StacktraceDeduplicator deduplicator = new StacktraceDeduplicator(properties(), clock);
+
+        StacktraceDeduplicator.Occurrence first = deduplicator.register(createException("message"));
+        StacktraceDeduplicator.Occurrence second = deduplicator.register(new IllegalStateException("message"));
+
+        assertThat(second.isFirst()).isTrue();
+        assertThat(second.fingerprint()).isNotEqualTo(first.fingerprint());
+    }
+
+    @Test
+    void newWindowStartsAfterWindowDuration() {
+        StacktraceDeduplicator deduplicator = new StacktraceDeduplicator(properties(), clock);
+
+        deduplicator.register(createException("message"));
+        clock.advance(Duration.ofSeconds(59));
+        StacktraceDeduplicator.Occurrence withinWindow = deduplicator.register(createException("message"));
+        clock.advance(Duration.ofSeconds(1));
+        StacktraceDeduplicator.Occurrence nextWindow = deduplicator.register(createException("message"));
+
+        assertThat(withinWindow.count()).isEqualTo(2);
+        assertThat(nextWindow.isFirst()).isTrue();
+    }
+
+    @Test
+    void forgetsLeastRecentlySeenFingerprintWhenMaximumIsReached() {
+        ErrorHandlingProperties properties = properties();
+        properties.getStacktraceDeduplication().setMaxFingerprints(2);
+        StacktraceDeduplicator deduplicator = new StacktraceDeduplicator(properties, clock);
+
+        deduplicator.register(createException("message"));
+        deduplicator.register(new IllegalStateException("message"));
+        deduplicator.register(createException("message"));
+        deduplicator.register(new UnsupportedOperationException("message"));
+
+        assertThat(deduplicator.register(createException("message")).count()).isEqualTo(3);
+        assertThat(deduplicator.register(new IllegalStateException("message")).isFirst()).isTrue();
+    }
+
+    private static ErrorHandlingProperties properties() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getStacktraceDeduplication().setEnabled(true);
+        // Only use the frame of createException(), the frames of the callers differ in line number
+        properties.getStacktraceDeduplication().setFrameCount(1);
+        return properties;
+    }
+
+    private static RuntimeException createException(String message) {
+        return new IllegalArgumentException(message);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
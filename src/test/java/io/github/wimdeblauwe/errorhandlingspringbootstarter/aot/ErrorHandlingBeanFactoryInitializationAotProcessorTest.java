@@ -0,0 +1,62 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.aot;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseSerializer;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.ExceptionWithBadRequestStatus;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.ExceptionWithResponseErrorCode;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.ExceptionWithResponseErrorPropertyOnField;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.MyEntityNotFoundException;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.SubclassOfExceptionWithResponseErrorPropertyOnMethod;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.javapoet.ClassName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ErrorHandlingBeanFactoryInitializationAotProcessorTest {
+
+    @Test
+    void registersHintsForAnnotatedExceptionsInAutoConfigurationPackages() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        AutoConfigurationPackages.register(beanFactory, ExceptionWithResponseErrorCode.class.getPackageName());
+
+        RuntimeHints hints = processAheadOfTime(beanFactory);
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ExceptionWithResponseErrorCode.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ExceptionWithBadRequestStatus.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onField(ExceptionWithResponseErrorPropertyOnField.class, "myProperty")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(SubclassOfExceptionWithResponseErrorPropertyOnMethod.class.getSuperclass(), "getMyProperty")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MyEntityNotFoundException.class)).rejects(hints);
+    }
+
+    @Test
+    void noContributionWithoutAutoConfigurationPackages() {
+        assertThat(new ErrorHandlingBeanFactoryInitializationAotProcessor().processAheadOfTime(new DefaultListableBeanFactory())).isNull();
+    }
+
+    @Test
+    void runtimeHintsForLibrary() {
+        RuntimeHints hints = new RuntimeHints();
+
+        new ErrorHandlingRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(ApiErrorResponseSerializer.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("error-handling-defaults.properties")).accepts(hints);
+    }
+
+    private static RuntimeHints processAheadOfTime(DefaultListableBeanFactory beanFactory) {
+        BeanFactoryInitializationAotContribution contribution = new ErrorHandlingBeanFactoryInitializationAotProcessor().processAheadOfTime(beanFactory);
+        assertThat(contribution).isNotNull();
+        DefaultGenerationContext generationContext = new DefaultGenerationContext(new ClassNameGenerator(ClassName.get("com.example", "Application")),
+                                                                                  new InMemoryGeneratedFiles());
+        contribution.applyTo(generationContext, mock());
+        return generationContext.getRuntimeHints();
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingFacade;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.LoggingService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorHandledEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void eventIsRecordedWhenEnabled() throws Exception {
+        ErrorHandlingFacade facade = createFacade();
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ErrorHandledEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            facade.handle(new IllegalStateException("Something went wrong"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                                                  .filter(event -> event.getEventType().getName().equals("io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandled"))
+                                                  .toList();
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("exceptionClass")).isEqualTo(IllegalStateException.class.getName());
+        assertThat(event.getBoolean("fallback")).isTrue();
+        assertThat(event.getInt("status")).isEqualTo(500);
+        assertThat(event.getString("code")).isEqualTo("FALLBACK");
+    }
+
+    @Test
+    void eventIsNotRecordedByDefault() throws Exception {
+        ErrorHandlingFacade facade = createFacade();
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.start();
+            facade.handle(new IllegalStateException("Something went wrong"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertThat(RecordingFile.readAllEvents(file))
+                .noneMatch(event -> event.getEventType().getName().startsWith("io.github.wimdeblauwe"));
+    }
+
+    private static ErrorHandlingFacade createFacade() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        return new ErrorHandlingFacade(List.of(),
+                                       exception -> new ApiErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "FALLBACK", exception.getMessage()),
+                                       new LoggingService(properties),
+                                       List.of());
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseSerializer;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiFieldError;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet.ServletApiErrorResponseWriter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseSerializedEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cachedIsOnlyRecordedForCacheHits() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getResponseCache().setEnabled(true);
+        ServletApiErrorResponseWriter writer = new ServletApiErrorResponseWriter(createObjectMapper(properties),
+                                                                                 new ApiErrorResponseCache(properties));
+        ApiErrorResponse withFieldError = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "Validation failed");
+        withFieldError.addFieldError(new ApiFieldError("REQUIRED", "name", "Name is required", null, "name"));
+        Path file = tempDir.resolve("recording.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ErrorResponseSerializedEvent.class);
+            recording.start();
+            writer.write(new MockHttpServletResponse(), new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"));
+            writer.write(new MockHttpServletResponse(), new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"));
+            writer.write(new MockHttpServletResponse(), withFieldError);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                                                  .filter(event -> event.getEventType().getName().equals("io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorResponseSerialized"))
+                                                  .toList();
+        assertThat(events).extracting(event -> event.getBoolean("cached"))
+                          .containsExactly(false, true, false);
+        assertThat(events).extracting(event -> event.getString("code"))
+                          .containsExactly("ACCESS_DENIED", "ACCESS_DENIED", "VALIDATION_FAILED");
+    }
+
+    private static ObjectMapper createObjectMapper(ErrorHandlingProperties properties) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ApiErrorResponse.class, new ApiErrorResponseSerializer(properties));
+        return new ObjectMapper().registerModule(module);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.MyEntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AllCapsErrorCodeStrategyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "MyEntityNotFoundException, MY_ENTITY_NOT_FOUND",
+            "IllegalArgumentException, ILLEGAL_ARGUMENT",
+            "Exception, ''",
+            "RuntimeException, RUNTIME",
+            "MyHTTPErrorException, MY_HTTPERROR",
+            "IOException, IO",
+            "ExceptionInInitializerError, EXCEPTION_IN_INITIALIZER_ERROR",
+            "lowercaseexception, LOWERCASEEXCEPTION",
+            "My2FactorAuthException, MY2FACTOR_AUTH",
+            "ÄrgerException, ÄRGER",
+    })
+    void convertToAllCaps(String exceptionClassName, String expectedCode) {
+        assertThat(AllCapsErrorCodeStrategy.convertToAllCaps(exceptionClassName))
+                .isEqualTo(expectedCode)
+                .isEqualTo(exceptionClassName.replaceFirst("Exception$", "")
+                                             .replaceAll("([a-z])([A-Z]+)", "$1_$2")
+                                             .toUpperCase());
+    }
+
+    @Test
+    void errorCodeIsComputedOncePerClass() {
+        AllCapsErrorCodeStrategy strategy = new AllCapsErrorCodeStrategy();
+
+        String errorCode = strategy.getErrorCode(MyEntityNotFoundException.class);
+
+        assertThat(errorCode).isEqualTo("MY_ENTITY_NOT_FOUND");
+        assertThat(strategy.getErrorCode(MyEntityNotFoundException.class)).isSameAs(errorCode);
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.mapper;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.ExceptionWithBadRequestStatus;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.ExceptionWithResponseErrorCode;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.exception.MyEntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorMetadataResolverTest {
+
+    @Test
+    void resolveFromAnnotations() {
+        ErrorMetadataResolver resolver = new ErrorMetadataResolver(new ErrorHandlingProperties());
+
+        assertThat(resolver.resolve(ExceptionWithBadRequestStatus.class).httpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(resolver.resolve(ExceptionWithResponseErrorCode.class).code()).isEqualTo("MY_ERROR_CODE");
+        assertThat(resolver.resolve(MyEntityNotFoundException.class)).isEqualTo(new ResolvedErrorMetadata(null, null, null));
+    }
+
+    @Test
+    void resultIsCachedPerClass() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ErrorMetadataResolver resolver = new ErrorMetadataResolver(properties);
+
+        ResolvedErrorMetadata metadata = resolver.resolve(MyEntityNotFoundException.class);
+
+        assertThat(resolver.resolve(MyEntityNotFoundException.class)).isSameAs(metadata);
+    }
+
+    @Test
+    void cacheIsDroppedWhenPropertiesAreRebound() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ErrorMetadataResolver resolver = new ErrorMetadataResolver(properties);
+        assertThat(resolver.resolve(MyEntityNotFoundException.class).code()).isNull();
+
+        Map<String, String> codes = new HashMap<>();
+        codes.put(MyEntityNotFoundException.class.getName(), "ENTITY_NOT_FOUND");
+        properties.setCodes(codes);
+        assertThat(resolver.resolve(MyEntityNotFoundException.class).code()).isEqualTo("ENTITY_NOT_FOUND");
+
+        properties.setSearchSuperClassHierarchy(true);
+        properties.getMessages().put(RuntimeException.class.getName(), "Runtime problem");
+        assertThat(resolver.resolve(MyEntityNotFoundException.class).message()).isEqualTo("Runtime problem");
+    }
+
+    @Test
+    void clearCache() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        ErrorMetadataResolver resolver = new ErrorMetadataResolver(properties);
+        assertThat(resolver.resolve(MyEntityNotFoundException.class).httpStatus()).isNull();
+
+        properties.getHttpStatuses().put(MyEntityNotFoundException.class.getName(), HttpStatus.NOT_FOUND);
+        resolver.clearCache();
+
+        assertThat(resolver.resolve(MyEntityNotFoundException.class).httpStatus()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
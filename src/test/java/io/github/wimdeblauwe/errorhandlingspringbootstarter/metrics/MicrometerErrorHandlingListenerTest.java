@@ -0,0 +1,154 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiExceptionHandler;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.AsyncLoggingService;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingEvent;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerErrorHandlingListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsCounterAndTimer() {
+        MicrometerErrorHandlingListener listener = new MicrometerErrorHandlingListener(meterRegistry, new ErrorHandlingProperties());
+
+        listener.onErrorHandled(event(new IllegalArgumentException(), "ILLEGAL_ARGUMENT", new TestApiExceptionHandler()));
+        listener.onErrorHandled(event(new IllegalArgumentException(), "ILLEGAL_ARGUMENT", new TestApiExceptionHandler()));
+
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC)
+                                .tag("status", "400")
+                                .tag("code", "ILLEGAL_ARGUMENT")
+                                .tag("exception", IllegalArgumentException.class.getName())
+                                .tag("handler", "TestApiExceptionHandler")
+                                .counter()
+                                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.DURATION_METRIC)
+                                .tag("status", "400")
+                                .tag("handler", "TestApiExceptionHandler")
+                                .timer()
+                                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(10);
+    }
+
+    @Test
+    void codesOutsideAllowListAreCollapsed() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getMetrics().setAllowedCodes(List.of("ILLEGAL_ARGUMENT"));
+        MicrometerErrorHandlingListener listener = new MicrometerErrorHandlingListener(meterRegistry, properties);
+
+        listener.onErrorHandled(event(new IllegalArgumentException(), "ILLEGAL_ARGUMENT", null));
+        listener.onErrorHandled(event(new IllegalStateException(), "ILLEGAL_STATE", null));
+
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC)
+                                .tag("code", "OTHER")
+                                .tag("exception", "OTHER")
+                                .tag("handler", "fallback")
+                                .counter()
+                                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC).counters()).hasSize(2);
+    }
+
+    @Test
+    void codesAfterMaximumAreCollapsed() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getMetrics().setMaxCodes(1);
+        MicrometerErrorHandlingListener listener = new MicrometerErrorHandlingListener(meterRegistry, properties);
+
+        listener.onErrorHandled(event(new IllegalArgumentException(), "FIRST", null));
+        listener.onErrorHandled(event(new IllegalArgumentException(), "SECOND", null));
+        listener.onErrorHandled(event(new IllegalArgumentException(), "FIRST", null));
+
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC).tag("code", "FIRST").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC).tag("code", "OTHER").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void exceptionsAfterMaximumPerCodeAreCollapsed() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getMetrics().setMaxExceptionsPerCode(1);
+        MicrometerErrorHandlingListener listener = new MicrometerErrorHandlingListener(meterRegistry, properties);
+
+        listener.onErrorHandled(event(new IllegalArgumentException(), "INVALID", null));
+        listener.onErrorHandled(event(new IllegalStateException(), "INVALID", null));
+        listener.onErrorHandled(event(new UnsupportedOperationException(), "INVALID", null));
+        listener.onErrorHandled(event(new IllegalStateException(), "OTHER_INVALID", null));
+
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC)
+                                .tag("code", "INVALID")
+                                .tag("exception", IllegalArgumentException.class.getName())
+                                .counter()
+                                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC)
+                                .tag("code", "INVALID")
+                                .tag("exception", "OTHER")
+                                .counter()
+                                .count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC)
+                                .tag("code", "OTHER_INVALID")
+                                .tag("exception", IllegalStateException.class.getName())
+                                .counter()
+                                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ERRORS_METRIC).counters()).hasSize(3);
+    }
+
+    @Test
+    void recordsResponseCacheMetrics() throws Exception {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.getResponseCache().setEnabled(true);
+        ApiErrorResponseCache responseCache = new ApiErrorResponseCache(properties);
+        new MicrometerErrorHandlingListener(meterRegistry, properties, responseCache);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (int i = 0; i < 3; i++) {
+            responseCache.getBytes(new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Access Denied"), objectMapper);
+        }
+
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.RESPONSE_CACHE_GETS_METRIC).tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.RESPONSE_CACHE_GETS_METRIC).tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MicrometerErrorHandlingListener.RESPONSE_CACHE_SIZE_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsAsyncLoggingMetrics() {
+        ErrorHandlingProperties properties = new ErrorHandlingProperties();
+        properties.setExceptionLogging(ErrorHandlingProperties.ExceptionLogging.NO_LOGGING);
+        try (AsyncLoggingService loggingService = new AsyncLoggingService(properties)) {
+            new MicrometerErrorHandlingListener(meterRegistry, properties, null, loggingService);
+
+            assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ASYNC_LOGGING_DROPPED_METRIC).functionCounter().count()).isZero();
+            assertThat(meterRegistry.get(MicrometerErrorHandlingListener.ASYNC_LOGGING_QUEUE_SIZE_METRIC).gauge().value()).isZero();
+        }
+    }
+
+    private static ErrorHandlingEvent event(Throwable exception, String code, ApiExceptionHandler handler) {
+        return new ErrorHandlingEvent(exception,
+                                      new ApiErrorResponse(HttpStatus.BAD_REQUEST, code, "message"),
+                                      handler,
+                                      TimeUnit.MILLISECONDS.toNanos(5),
+                                      0,
+                                      0);
+    }
+
+    private static class TestApiExceptionHandler implements ApiExceptionHandler {
+        @Override
+        public boolean canHandle(Throwable exception) {
+            return true;
+        }
+
+        @Override
+        public ApiErrorResponse handle(Throwable exception) {
+            return null;
+        }
+    }
+}
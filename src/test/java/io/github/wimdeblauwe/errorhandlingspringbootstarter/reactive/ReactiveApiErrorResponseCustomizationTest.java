@@ -0,0 +1,130 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.reactive;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiGlobalError;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveApiErrorResponseCustomizationTest {
+
+    @Test
+    void mergesResultsInOrderOfCustomizers() {
+        ReactiveApiErrorResponseCustomization customization = new ReactiveApiErrorResponseCustomization(List.of(
+                response -> {
+                    response.addErrorProperty("ticket", "T-1");
+                    response.addErrorProperty("source", "first");
+                    return Mono.just(response).delayElement(Duration.ofMillis(50));
+                },
+                response -> {
+                    response.addErrorProperty("source", "second");
+                    response.addGlobalError(new ApiGlobalError("GLOBAL", "Global error"));
+                    return Mono.just(response);
+                }), Duration.ofSeconds(5));
+
+        ApiErrorResponse response = customization.customize(createResponse()).block();
+
+        assertThat(response.getCode()).isEqualTo("CODE");
+        assertThat(response.getProperties()).containsEntry("ticket", "T-1")
+                                            .containsEntry("source", "second");
+        assertThat(response.getGlobalErrors()).hasSize(1);
+    }
+
+    @Test
+    void customizersRunConcurrently() {
+        Sinks.One<String> tenant = Sinks.one();
+        ReactiveApiErrorResponseCustomization customization = new ReactiveApiErrorResponseCustomization(List.of(
+                // Only completes once the second customizer has been subscribed to
+                response -> tenant.asMono().map(value -> {
+                    response.addErrorProperty("tenant", value);
+                    return response;
+                }),
+                response -> {
+                    tenant.tryEmitValue("acme");
+                    return Mono.empty();
+                }), Duration.ofSeconds(5));
+
+        ApiErrorResponse response = customization.customize(createResponse()).block();
+
+        assertThat(response.getProperties()).containsEntry("tenant", "acme");
+    }
+
+    @Test
+    void failingOrSlowCustomizerIsIgnored() {
+        ReactiveApiErrorResponseCustomizer slowCustomizer = new ReactiveApiErrorResponseCustomizer() {
+            @Override
+            public Mono<ApiErrorResponse> customize(ApiErrorResponse response) {
+                response.addErrorProperty("slow", true);
+                return Mono.never();
+            }
+
+            @Override
+            public Duration getTimeout() {
+                return Duration.ofMillis(50);
+            }
+        };
+        ReactiveApiErrorResponseCustomization customization = new ReactiveApiErrorResponseCustomization(List.of(
+                slowCustomizer,
+                response -> Mono.error(new IllegalStateException("Lookup failed")),
+                response -> {
+                    throw new IllegalStateException("Lookup failed");
+                },
+                response -> {
+                    response.addErrorProperty("fast", true);
+                    return Mono.just(response);
+                }), Duration.ofSeconds(5));
+
+        ApiErrorResponse response = customization.customize(createResponse()).block();
+
+        assertThat(response.getProperties()).containsOnlyKeys("fast");
+    }
+
+    @Test
+    void returnedResponseWithOtherCodeReplacesResponse() {
+        ReactiveApiErrorResponseCustomization customization = new ReactiveApiErrorResponseCustomization(List.of(
+                response -> Mono.just(new ApiErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, "UNAVAILABLE", "Try again later"))),
+                                                                                                        Duration.ofSeconds(5));
+        ApiErrorResponse original = createResponse();
+        original.addErrorProperty("id", 1);
+
+        ApiErrorResponse response = customization.customize(original).block();
+
+        assertThat(response.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getCode()).isEqualTo("UNAVAILABLE");
+        assertThat(response.getProperties()).containsEntry("id", 1);
+    }
+
+    @Test
+    void mergesErrorsOfReturnedResponse() {
+        ReactiveApiErrorResponseCustomization customization = new ReactiveApiErrorResponseCustomization(List.of(
+                response -> {
+                    response.addGlobalError(new ApiGlobalError("ADDED", "Added to the copy"));
+                    return Mono.just(response);
+                },
+                response -> {
+                    ApiErrorResponse result = new ApiErrorResponse(HttpStatus.BAD_REQUEST, "CODE", "Message");
+                    result.addGlobalError(new ApiGlobalError("NEW_1", "First new error"));
+                    result.addGlobalError(new ApiGlobalError("NEW_2", "Second new error"));
+                    result.addGlobalError(new ApiGlobalError("NEW_3", "Third new error"));
+                    return Mono.just(result);
+                }), Duration.ofSeconds(5));
+        ApiErrorResponse original = createResponse();
+        original.addGlobalError(new ApiGlobalError("ORIGINAL_1", "First original error"));
+        original.addGlobalError(new ApiGlobalError("ORIGINAL_2", "Second original error"));
+
+        ApiErrorResponse response = customization.customize(original).block();
+
+        assertThat(response.getGlobalErrors()).extracting(ApiGlobalError::getCode)
+                                              .containsExactly("ORIGINAL_1", "ORIGINAL_2", "ADDED", "NEW_1", "NEW_2", "NEW_3");
+    }
+
+    private static ApiErrorResponse createResponse() {
+        return new ApiErrorResponse(HttpStatus.BAD_REQUEST, "CODE", "Message");
+    }
+}
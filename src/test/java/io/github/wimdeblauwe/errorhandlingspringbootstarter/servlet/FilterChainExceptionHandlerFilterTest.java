@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,6 +38,7 @@ public class FilterChainExceptionHandlerFilterTest {
     void test() throws Exception {
         mockMvc.perform(get("/test/filter-chain"))
                .andExpect(status().is5xxServerError())
+               .andExpect(content().contentType("application/json;charset=UTF-8"))
                .andExpect(jsonPath("code").value("RUNTIME"))
                .andExpect(jsonPath("message").value("Error in filter"));
 
@@ -0,0 +1,124 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet;
+
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest
+@ContextConfiguration(classes = {ServletErrorHandlingConfiguration.class,
+        ResponseCacheTest.TestController.class,
+        ResponseCacheTest.TestConfig.class})
+@TestPropertySource(properties = {"error.handling.handle-filter-chain-exceptions=true",
+        "error.handling.response-cache.enabled=true"})
+class ResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApiErrorResponseCache responseCache;
+
+    @Test
+    @WithMockUser
+    void controllerAdviceUsesCache() throws Exception {
+        responseCache.clear();
+        long hitCount = responseCache.getHitCount();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/test/response-cache"))
+                   .andExpect(status().isInternalServerError())
+                   .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                   .andExpect(jsonPath("code").value("ILLEGAL_STATE"))
+                   .andExpect(jsonPath("message").value("Error in controller"));
+        }
+
+        assertThat(responseCache.getHitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @Test
+    @WithMockUser
+    void controllerAdviceUsesMessageConvertersIfNotOnlyJsonIsAccepted() throws Exception {
+        mockMvc.perform(get("/test/response-cache"));
+        long hitCount = responseCache.getHitCount();
+
+        mockMvc.perform(get("/test/response-cache").accept(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN))
+               .andExpect(status().isInternalServerError())
+               .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+               .andExpect(jsonPath("code").value("ILLEGAL_STATE"));
+
+        assertThat(responseCache.getHitCount()).isEqualTo(hitCount);
+    }
+
+    @Test
+    @WithMockUser
+    void filterUsesCache() throws Exception {
+        responseCache.clear();
+        long hitCount = responseCache.getHitCount();
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/test/response-cache/filter"))
+                   .andExpect(status().isInternalServerError())
+                   .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                   .andExpect(jsonPath("code").value("RUNTIME"))
+                   .andExpect(jsonPath("message").value("Error in filter"));
+        }
+
+        assertThat(responseCache.getHitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @RestController
+    @RequestMapping("/test/response-cache")
+    public static class TestController {
+
+        @GetMapping
+        public void throwException() {
+            throw new IllegalStateException("Error in controller");
+        }
+
+        @GetMapping("/filter")
+        public void doSomething() {
+        }
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        public FilterRegistrationBean<ThrowErrorFilter> filter() {
+            FilterRegistrationBean<ThrowErrorFilter> registrationBean = new FilterRegistrationBean<>();
+            registrationBean.setFilter(new ThrowErrorFilter());
+            registrationBean.addUrlPatterns("/test/response-cache/filter");
+            registrationBean.setOrder(2);
+
+            return registrationBean;
+        }
+    }
+
+    static class ThrowErrorFilter extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) {
+            throw new RuntimeException("Error in filter");
+        }
+    }
+}
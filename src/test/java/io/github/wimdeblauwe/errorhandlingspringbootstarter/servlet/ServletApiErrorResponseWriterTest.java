@@ -0,0 +1,65 @@
+package io.github.wimdeblauwe.errorhandlingspringbootstarter.servlet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponse;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseCache;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ApiErrorResponseSerializer;
+import io.github.wimdeblauwe.errorhandlingspringbootstarter.ErrorHandlingProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServletApiErrorResponseWriterTest {
+
+    private final ErrorHandlingProperties properties = new ErrorHandlingProperties();
+    private final ObjectMapper objectMapper = createObjectMapper(properties);
+
+    @Test
+    void writesJsonToOutputStream() throws Exception {
+        ServletApiErrorResponseWriter writer = new ServletApiErrorResponseWriter(objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        writer.write(response, new ApiErrorResponse(HttpStatus.FORBIDDEN, "ACCESS_DENIED", "Zugriff verweigert: Ä"));
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentAsString()).isEqualTo("{\"code\":\"ACCESS_DENIED\",\"message\":\"Zugriff verweigert: Ä\"}");
+        assertThat(response.isCommitted()).isFalse();
+    }
+
+    @Test
+    void writesCachedBytesWithContentLength() throws Exception {
+        properties.getResponseCache().setEnabled(true);
+        ApiErrorResponseCache responseCache = new ApiErrorResponseCache(properties);
+        ServletApiErrorResponseWriter writer = new ServletApiErrorResponseWriter(objectMapper, responseCache);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            writer.write(response, new ApiErrorResponse(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "Unauthorized"));
+
+            assertThat(response.getContentAsString()).isEqualTo("{\"code\":\"UNAUTHORIZED\",\"message\":\"Unauthorized\"}");
+            assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        }
+        assertThat(responseCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void usesWriterIfAlreadyUsed() throws Exception {
+        ServletApiErrorResponseWriter writer = new ServletApiErrorResponseWriter(objectMapper);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.getWriter();
+
+        writer.write(response, new ApiErrorResponse(HttpStatus.BAD_REQUEST, "BAD_REQUEST", "Bad request"));
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"code\":\"BAD_REQUEST\",\"message\":\"Bad request\"}");
+    }
+
+    private static ObjectMapper createObjectMapper(ErrorHandlingProperties properties) {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ApiErrorResponse.class, new ApiErrorResponseSerializer(properties));
+        return new ObjectMapper().registerModule(module);
+    }
+}